@@ -0,0 +1,133 @@
+/* CellPreparation.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+
+/**
+ * This internal class runs {@link PreparedSectionedListCell#prepare(Object)}
+ * in the background and applies the prepared model in the JavaFX application
+ * thread. The preparation is cancelled when the cell container is rebound,
+ * so that a cell never shows the model of a previous item.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class CellPreparation<RawItemType, ModelType> extends FutureTask<ModelType> {
+
+	private static ExecutorService defaultExecutor;
+
+	private volatile boolean cancelled;
+	private PreparedSectionedListCell<RawItemType, ModelType> cell;
+
+	/**
+	 * Get the executor shared by the list views that do not specify their
+	 * own executor. The executor is created at the first time and its threads
+	 * are daemon threads.
+	 * 
+	 * @return the default executor
+	 */
+	static synchronized Executor getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			AtomicInteger count = new AtomicInteger();
+			int threads = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+			defaultExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "SectionedListView-CellPreparation-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return defaultExecutor;
+	}
+
+	/**
+	 * Start preparing the cell for the item with the executor.
+	 * 
+	 * @param executor the executor to run the preparation
+	 * @param cell the cell to bind
+	 * @param item the new item
+	 * @return the started preparation
+	 */
+	static <RawItemType, ModelType> CellPreparation<RawItemType, ModelType> start(Executor executor, PreparedSectionedListCell<RawItemType, ModelType> cell, RawItemType item) {
+		cell.showPlaceholder(item);
+		CellPreparation<RawItemType, ModelType> preparation = new CellPreparation<>(cell, item);
+		executor.execute(preparation);
+		return preparation;
+	}
+
+	/**
+	 * Construct a <code>CellPreparation</code> instance. Please use the
+	 * {@link #start(Executor, PreparedSectionedListCell, Object)} method
+	 * to start a preparation.
+	 * 
+	 * @param cell the cell to bind
+	 * @param item the new item
+	 */
+	private CellPreparation(PreparedSectionedListCell<RawItemType, ModelType> cell, RawItemType item) {
+		super(() -> cell.prepare(item));
+		this.cell = cell;
+	}
+
+	/**
+	 * Cancel the preparation. A preparation that is still waiting is never
+	 * run; the model of a running preparation is discarded when it finishes.
+	 * The preparation is not interrupted, because the interruption may break
+	 * the resources used by the cell, e.g. an interruptible channel.
+	 */
+	void cancel() {
+		cancelled = true;
+		cancel(false);
+	}
+
+	@Override
+	protected void done() {
+		if (cancelled || isCancelled()) {
+			return;
+		}
+		try {
+			ModelType model = get();
+			Platform.runLater(() -> {
+				if (!cancelled) {
+					cell.apply(model);
+				}
+			});
+		}
+		catch (ExecutionException e) {
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
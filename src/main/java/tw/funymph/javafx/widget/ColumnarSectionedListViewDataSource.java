@@ -0,0 +1,381 @@
+/* ColumnarSectionedListViewDataSource.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is a {@link SectionedListViewDataSource} for the rows that are
+ * small records of ints, doubles and short strings. The rows are stored
+ * column by column in the direct {@link ByteBuffer}s outside the Java heap,
+ * and each section is a range of the rows. The items handed to the list view
+ * are {@link Row} views that only keep the position of the row; the values
+ * are read from the columns when the cell calls the getters in its
+ * {@link SectionedListCell#updateItem(Object)}, so there is neither a record
+ * object nor a boxed value per row on the heap.
+ * <p>
+ * The rows can only be appended to the last section. The string columns
+ * keep the UTF-8 bytes of the strings in a shared buffer of the column; the
+ * bytes of a replaced string are not reclaimed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class ColumnarSectionedListViewDataSource implements SectionedListViewDataSource<ColumnarSectionedListViewDataSource.Row> {
+
+	private static final int InitialCapacity = 1024;
+
+	/**
+	 * The type of a column.
+	 */
+	public enum ColumnType {
+
+		/**
+		 * The column of 32-bit integers.
+		 */
+		Int(4),
+
+		/**
+		 * The column of 64-bit floating point numbers.
+		 */
+		Double(8),
+
+		/**
+		 * The column of short strings; each row keeps the offset and the length
+		 * of the string bytes.
+		 */
+		Text(8);
+
+		private final int width;
+
+		private ColumnType(int width) {
+			this.width = width;
+		}
+	}
+
+	/**
+	 * This class is the view of a row in the data source. The view only keeps
+	 * the position of the row, and two views are equal if they refer to the
+	 * same row of the same data source.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.0
+	 * @since 1.0
+	 */
+	public static final class Row {
+
+		private final ColumnarSectionedListViewDataSource source;
+		private final int row;
+
+		private Row(ColumnarSectionedListViewDataSource source, int row) {
+			this.source = source;
+			this.row = row;
+		}
+
+		/**
+		 * Get the int value of the given column.
+		 * 
+		 * @param column the column index
+		 * @return the int value
+		 */
+		public int getInt(int column) {
+			return source.getInt(row, column);
+		}
+
+		/**
+		 * Get the double value of the given column.
+		 * 
+		 * @param column the column index
+		 * @return the double value
+		 */
+		public double getDouble(int column) {
+			return source.getDouble(row, column);
+		}
+
+		/**
+		 * Get the string value of the given column.
+		 * 
+		 * @param column the column index
+		 * @return the string value; null if the value is not set
+		 */
+		public String getString(int column) {
+			return source.getString(row, column);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Row)) {
+				return false;
+			}
+			Row that = (Row)other;
+			return source == that.source && row == that.row;
+		}
+
+		@Override
+		public int hashCode() {
+			return row;
+		}
+	}
+
+	private final ColumnType[] types;
+	private final ByteBuffer[] columns;
+	private final ByteBuffer[] stringBytes;
+	private final List<String> titles;
+	private boolean[] headers;
+	private int[] sectionStarts;
+	private int capacity;
+	private int rows;
+
+	/**
+	 * Construct an empty <code>ColumnarSectionedListViewDataSource</code> with
+	 * the types of the columns.
+	 * 
+	 * @param types the types of the columns
+	 */
+	public ColumnarSectionedListViewDataSource(ColumnType... types) {
+		this.types = types.clone();
+		capacity = InitialCapacity;
+		columns = new ByteBuffer[types.length];
+		stringBytes = new ByteBuffer[types.length];
+		for (int column = 0; column < types.length; column++) {
+			columns[column] = ByteBuffer.allocateDirect(capacity * types[column].width);
+			if (types[column] == ColumnType.Text) {
+				stringBytes[column] = ByteBuffer.allocateDirect(capacity * 8);
+				for (int row = 0; row < capacity; row++) {
+					columns[column].putInt(row * 8 + 4, -1);
+				}
+			}
+		}
+		titles = new ArrayList<>();
+		headers = new boolean[8];
+		sectionStarts = new int[9];
+	}
+
+	/**
+	 * Append a new section after the last section.
+	 * 
+	 * @param title the section title
+	 * @param hasHeader true if the section needs a header view
+	 * @return the index of the new section
+	 */
+	public int appendSection(String title, boolean hasHeader) {
+		int section = titles.size();
+		if (section == headers.length) {
+			headers = Arrays.copyOf(headers, section * 2);
+			sectionStarts = Arrays.copyOf(sectionStarts, section * 2 + 1);
+		}
+		titles.add(title);
+		headers[section] = hasHeader;
+		sectionStarts[section + 1] = rows;
+		return section;
+	}
+
+	/**
+	 * Append a new row to the last section. The int and double values of
+	 * the new row are 0 and the string values are null.
+	 * 
+	 * @return the index of the row in the data source; used to set the values
+	 */
+	public int appendRow() {
+		if (titles.isEmpty()) {
+			throw new IllegalStateException("append a section before appending rows");
+		}
+		if (rows == capacity) {
+			grow();
+		}
+		sectionStarts[titles.size()] = ++rows;
+		return rows - 1;
+	}
+
+	/**
+	 * Set the int value of the given row and column.
+	 * 
+	 * @param row the row index returned by {@link #appendRow()}
+	 * @param column the index of an int column
+	 * @param value the int value
+	 */
+	public void setInt(int row, int column, int value) {
+		columns[checkColumn(row, column, ColumnType.Int)].putInt(row * 4, value);
+	}
+
+	/**
+	 * Set the double value of the given row and column.
+	 * 
+	 * @param row the row index returned by {@link #appendRow()}
+	 * @param column the index of a double column
+	 * @param value the double value
+	 */
+	public void setDouble(int row, int column, double value) {
+		columns[checkColumn(row, column, ColumnType.Double)].putDouble(row * 8, value);
+	}
+
+	/**
+	 * Set the string value of the given row and column.
+	 * 
+	 * @param row the row index returned by {@link #appendRow()}
+	 * @param column the index of a string column
+	 * @param value the string value; can be null
+	 */
+	public void setString(int row, int column, String value) {
+		ByteBuffer buffer = columns[checkColumn(row, column, ColumnType.Text)];
+		if (value == null) {
+			buffer.putInt(row * 8 + 4, -1);
+			return;
+		}
+		byte[] bytes = value.getBytes(UTF_8);
+		ByteBuffer heap = stringBytes[column];
+		if (heap.remaining() < bytes.length) {
+			ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(heap.capacity() * 2, heap.position() + bytes.length));
+			heap.flip();
+			larger.put(heap);
+			stringBytes[column] = heap = larger;
+		}
+		buffer.putInt(row * 8, heap.position());
+		buffer.putInt(row * 8 + 4, bytes.length);
+		heap.put(bytes);
+	}
+
+	/**
+	 * Get the int value of the given row and column.
+	 * 
+	 * @param row the row index in the data source
+	 * @param column the index of an int column
+	 * @return the int value
+	 */
+	public int getInt(int row, int column) {
+		return columns[checkColumn(row, column, ColumnType.Int)].getInt(row * 4);
+	}
+
+	/**
+	 * Get the double value of the given row and column.
+	 * 
+	 * @param row the row index in the data source
+	 * @param column the index of a double column
+	 * @return the double value
+	 */
+	public double getDouble(int row, int column) {
+		return columns[checkColumn(row, column, ColumnType.Double)].getDouble(row * 8);
+	}
+
+	/**
+	 * Get the string value of the given row and column.
+	 * 
+	 * @param row the row index in the data source
+	 * @param column the index of a string column
+	 * @return the string value; null if the value is not set
+	 */
+	public String getString(int row, int column) {
+		ByteBuffer buffer = columns[checkColumn(row, column, ColumnType.Text)];
+		int length = buffer.getInt(row * 8 + 4);
+		if (length < 0) {
+			return null;
+		}
+		ByteBuffer bytes = stringBytes[column].duplicate();
+		bytes.limit(buffer.getInt(row * 8) + length).position(buffer.getInt(row * 8));
+		return UTF_8.decode(bytes).toString();
+	}
+
+	/**
+	 * Get the total number of the rows in all sections.
+	 * 
+	 * @return the number of the rows
+	 */
+	public int size() {
+		return rows;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfSections() {
+		return titles.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasSectionHeader(int section) {
+		return headers[section];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getSectionTitle(int section) {
+		return titles.get(section);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfRowsInSection(int section) {
+		return sectionStarts[section + 1] - sectionStarts[section];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Row getItem(IndexPath path) {
+		return new Row(this, sectionStarts[path.getSection()] + path.getRow());
+	}
+
+	private int checkColumn(int row, int column, ColumnType type) {
+		if (types[column] != type) {
+			throw new IllegalArgumentException("column " + column + " is not a " + type + " column");
+		}
+		if (row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException("row " + row + " is out of range [0, " + rows + ")");
+		}
+		return column;
+	}
+
+	private void grow() {
+		int newCapacity = capacity * 2;
+		for (int column = 0; column < columns.length; column++) {
+			ByteBuffer larger = ByteBuffer.allocateDirect(newCapacity * types[column].width);
+			ByteBuffer existing = columns[column].duplicate();
+			existing.clear();
+			larger.put(existing);
+			if (types[column] == ColumnType.Text) {
+				for (int row = capacity; row < newCapacity; row++) {
+					larger.putInt(row * 8 + 4, -1);
+				}
+			}
+			columns[column] = larger;
+		}
+		capacity = newCapacity;
+	}
+}
@@ -26,7 +26,9 @@ package tw.funymph.javafx.widget;
 
 /**
  * Each item in the {@link SectionedListView} is associated with an index
- * path to indicate the location in the view.
+ * path to indicate the location in the view. The index path of an item from
+ * a {@link NestedSectionedListViewDataSource} has more than two levels: the
+ * indexes of the section at each level followed by the row index.
  * 
  * @author Pin-Ying Tu
  * @version 1.0
@@ -54,4 +56,29 @@ public interface IndexPath {
 	 * @return the row index
 	 */
 	public int getRow();
+
+	/**
+	 * Get the number of the levels of the index path, including the row. The
+	 * default implementation returns 2 for a section and a row.
+	 * 
+	 * @return the number of the levels
+	 */
+	public default int getLength() {
+		return 2;
+	}
+
+	/**
+	 * Get the index at the given level. The level 0 is the top-level section
+	 * that {@link #getSection()} returns, and the level <code>getLength() - 1</code>
+	 * is the row that {@link #getRow()} returns.
+	 * 
+	 * @param level the level; starting from 0
+	 * @return the index at the level
+	 */
+	public default int getIndex(int level) {
+		if (level < 0 || level >= getLength()) {
+			throw new IndexOutOfBoundsException("Level: " + level + ", Length: " + getLength());
+		}
+		return level == 0 ? getSection() : getRow();
+	}
 }
@@ -0,0 +1,130 @@
+/* MappedFileRegion.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This internal class maps a whole file into memory with {@link FileChannel#map}.
+ * A mapped buffer can not be larger than 2 GB, so the file is mapped in
+ * chunks. The chunk size is a multiple of 8, so that the 8-byte aligned
+ * values never cross the chunk boundary.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class MappedFileRegion {
+
+	private static final int ChunkBits = 30;
+	private static final long ChunkSize = 1L << ChunkBits;
+	private static final long ChunkMask = ChunkSize - 1;
+
+	private final long size;
+	private final MappedByteBuffer[] chunks;
+
+	/**
+	 * Map the whole file of the channel. The pages are loaded by the operating
+	 * system on demand, so mapping a large file is fast.
+	 * 
+	 * @param channel the file channel
+	 * @throws IOException if the file can not be mapped
+	 */
+	MappedFileRegion(FileChannel channel) throws IOException {
+		size = channel.size();
+		int count = (int)((size + ChunkSize - 1) >>> ChunkBits);
+		chunks = new MappedByteBuffer[count];
+		for (int chunk = 0; chunk < count; chunk++) {
+			long position = (long)chunk << ChunkBits;
+			chunks[chunk] = channel.map(READ_ONLY, position, Math.min(ChunkSize, size - position));
+		}
+	}
+
+	/**
+	 * Get the size of the mapped file.
+	 * 
+	 * @return the size in bytes
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Get the 4-byte aligned int at the position.
+	 * 
+	 * @param position the position in the file
+	 * @return the int value
+	 */
+	int getInt(long position) {
+		return chunks[(int)(position >>> ChunkBits)].getInt((int)(position & ChunkMask));
+	}
+
+	/**
+	 * Get the 8-byte aligned long at the position.
+	 * 
+	 * @param position the position in the file
+	 * @return the long value
+	 */
+	long getLong(long position) {
+		return chunks[(int)(position >>> ChunkBits)].getLong((int)(position & ChunkMask));
+	}
+
+	/**
+	 * Get the bytes between the positions as a read-only buffer. The buffer
+	 * shares the mapped memory if the bytes are in one chunk; otherwise the
+	 * bytes are copied.
+	 * 
+	 * @param from the start position in the file (inclusive)
+	 * @param to the end position in the file (exclusive)
+	 * @return the buffer of the bytes
+	 */
+	ByteBuffer slice(long from, long to) {
+		int length = (int)(to - from);
+		int chunk = (int)(from >>> ChunkBits);
+		int offset = (int)(from & ChunkMask);
+		if (offset + length <= chunks[chunk].capacity()) {
+			ByteBuffer buffer = chunks[chunk].duplicate();
+			buffer.limit(offset + length).position(offset);
+			return buffer.slice().asReadOnlyBuffer();
+		}
+		byte[] bytes = new byte[length];
+		int copied = 0;
+		while (copied < length) {
+			ByteBuffer buffer = chunks[chunk].duplicate();
+			int count = Math.min(length - copied, buffer.capacity() - offset);
+			buffer.position(offset);
+			buffer.get(bytes, copied, count);
+			copied += count;
+			chunk++;
+			offset = 0;
+		}
+		return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+	}
+}
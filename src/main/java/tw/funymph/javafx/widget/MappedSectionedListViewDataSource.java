@@ -0,0 +1,367 @@
+/* MappedSectionedListViewDataSource.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is a read-only {@link SectionedListViewDataSource} that maps a
+ * file written by {@link #write(SectionedListViewDataSource, RowCodec, Path)}
+ * into memory. Opening the file only reads the header and the section table,
+ * the rows are decoded on demand by the {@link RowCodec} when
+ * {@link #getItem(IndexPath)} is called, and a small number of the decoded
+ * rows are cached. Therefore, a list of millions of rows can be shown without
+ * loading the whole file into the heap. The rows may be decoded by several
+ * threads at the same time, so the {@link RowCodec} must be thread-safe.
+ * <p>
+ * The file consists of:
+ * <ul>
+ * <li>the header: the magic number, the version, the number of sections,
+ * a reserved field written as 0, and the positions of the section table and
+ * the row offset index;</li>
+ * <li>the serialized rows and the section titles;</li>
+ * <li>the section table: the first row, the number of rows, the header flag,
+ * and the title position of each section;</li>
+ * <li>the row offset index: the position of each row and the end of the
+ * last row.</li>
+ * </ul>
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedSectionedListViewDataSource<RawItemType> implements ConcurrentSectionedListViewDataSource<RawItemType>, Closeable {
+
+	/**
+	 * The default number of the decoded rows to cache.
+	 */
+	public static final int DefaultCacheSize = 256;
+
+	private static final int Magic = 0x534C5644;
+	private static final int Version = 1;
+	private static final int HeaderSize = 32;
+	private static final int SectionEntrySize = 24;
+	private static final int HasHeaderFlag = 1;
+
+	/**
+	 * This interface defines how to serialize and deserialize a row.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.0
+	 * @since 1.0
+	 */
+	public interface RowCodec<RawItemType> {
+
+		/**
+		 * Serialize the item into the output.
+		 * 
+		 * @param item the item to serialize
+		 * @param output the output
+		 * @throws IOException if the item can not be written
+		 */
+		public void encode(RawItemType item, DataOutput output) throws IOException;
+
+		/**
+		 * Deserialize an item from the buffer. The buffer contains exactly the
+		 * bytes written by {@link #encode(Object, DataOutput)} and is read-only.
+		 * 
+		 * @param buffer the bytes of the row
+		 * @return the item
+		 */
+		public RawItemType decode(ByteBuffer buffer);
+	}
+
+	private final FileChannel channel;
+	private final MappedFileRegion region;
+	private final long rowIndexPosition;
+	private final long[] firstRows;
+	private final int[] rowCounts;
+	private final int[] flags;
+	private final long[] titlePositions;
+	private final RowCodec<RawItemType> codec;
+	private final Map<Long, RawItemType> decodedRows;
+
+	/**
+	 * Open the file with the {@link #DefaultCacheSize}.
+	 * 
+	 * @param file the file written by {@link #write(SectionedListViewDataSource, RowCodec, Path)}
+	 * @param codec the codec to decode the rows
+	 * @throws IOException if the file can not be opened or is not valid
+	 */
+	public MappedSectionedListViewDataSource(Path file, RowCodec<RawItemType> codec) throws IOException {
+		this(file, codec, DefaultCacheSize);
+	}
+
+	/**
+	 * Open the file.
+	 * 
+	 * @param file the file written by {@link #write(SectionedListViewDataSource, RowCodec, Path)}
+	 * @param codec the codec to decode the rows
+	 * @param cacheSize the number of the decoded rows to cache
+	 * @throws IOException if the file can not be opened or is not valid
+	 */
+	public MappedSectionedListViewDataSource(Path file, RowCodec<RawItemType> codec, int cacheSize) throws IOException {
+		this.codec = codec;
+		channel = FileChannel.open(file, READ);
+		try {
+			region = new MappedFileRegion(channel);
+			if (region.size() < HeaderSize || region.getInt(0) != Magic || region.getInt(4) != Version) {
+				throw new IOException(file + " is not a mapped sectioned list file");
+			}
+			int sections = region.getInt(8);
+			long sectionTablePosition = region.getLong(16);
+			rowIndexPosition = region.getLong(24);
+			firstRows = new long[sections];
+			rowCounts = new int[sections];
+			flags = new int[sections];
+			titlePositions = new long[sections];
+			for (int section = 0; section < sections; section++) {
+				long entry = sectionTablePosition + (long)section * SectionEntrySize;
+				firstRows[section] = region.getLong(entry);
+				rowCounts[section] = region.getInt(entry + 8);
+				flags[section] = region.getInt(entry + 12);
+				titlePositions[section] = region.getLong(entry + 16);
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		decodedRows = new LinkedHashMap<Long, RawItemType>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, RawItemType> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfSections() {
+		return rowCounts.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasSectionHeader(int section) {
+		return (flags[section] & HasHeaderFlag) != 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getSectionTitle(int section) {
+		long position = titlePositions[section];
+		int length = region.getInt(position);
+		ByteBuffer bytes = region.slice(position + 4, position + 4 + length);
+		return UTF_8.decode(bytes).toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfRowsInSection(int section) {
+		return rowCounts[section];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RawItemType getItem(IndexPath path) {
+		long row = firstRows[path.getSection()] + path.getRow();
+		synchronized (decodedRows) {
+			RawItemType item = decodedRows.get(row);
+			if (item != null) {
+				return item;
+			}
+		}
+		long position = rowIndexPosition + row * 8;
+		RawItemType item = codec.decode(region.slice(region.getLong(position), region.getLong(position + 8)));
+		synchronized (decodedRows) {
+			decodedRows.put(row, item);
+		}
+		return item;
+	}
+
+	/**
+	 * Close the file channel. The mapped memory is released when this data
+	 * source is garbage collected.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (decodedRows) {
+			decodedRows.clear();
+		}
+		channel.close();
+	}
+
+	/**
+	 * Write the sections and the rows of the data source into the file that
+	 * can be opened by {@link MappedSectionedListViewDataSource}. The existing
+	 * file will be overwritten.
+	 * 
+	 * @param source the data source to write
+	 * @param codec the codec to encode the rows
+	 * @param file the file to write
+	 * @throws IOException if the file can not be written
+	 */
+	public static <RawItemType> void write(SectionedListViewDataSource<RawItemType> source, RowCodec<? super RawItemType> codec, Path file) throws IOException {
+		int sections = source.numberOfSections();
+		long[] firstRows = new long[sections];
+		long[] titlePositions = new long[sections];
+		long rows = 0;
+		for (int section = 0; section < sections; section++) {
+			firstRows[section] = rows;
+			rows += source.numberOfRowsInSection(section);
+		}
+		Path offsets = Files.createTempFile(file.toAbsolutePath().getParent(), "rows", ".offsets");
+		try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+			 CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+			 DataOutputStream output = new DataOutputStream(counter);
+			 DataOutputStream offsetOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(offsets), 1 << 16))) {
+			output.write(new byte[HeaderSize]);
+			for (int section = 0; section < sections; section++) {
+				int count = source.numberOfRowsInSection(section);
+				for (int row = 0; row < count; row++) {
+					offsetOutput.writeLong(counter.count);
+					codec.encode(source.getItem(new ImmutableIndexPath(section, row)), output);
+				}
+			}
+			offsetOutput.writeLong(counter.count);
+			align(output, counter.count);
+			for (int section = 0; section < sections; section++) {
+				titlePositions[section] = counter.count;
+				String title = source.getSectionTitle(section);
+				byte[] bytes = (title != null ? title : "").getBytes(UTF_8);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+				align(output, counter.count);
+			}
+			long sectionTablePosition = counter.count;
+			for (int section = 0; section < sections; section++) {
+				output.writeLong(firstRows[section]);
+				output.writeInt(source.numberOfRowsInSection(section));
+				output.writeInt(source.hasSectionHeader(section) ? HasHeaderFlag : 0);
+				output.writeLong(titlePositions[section]);
+			}
+			long rowIndexPosition = counter.count;
+			output.flush();
+			offsetOutput.flush();
+			try (FileChannel offsetChannel = FileChannel.open(offsets, READ)) {
+				long transferred = 0;
+				long size = offsetChannel.size();
+				while (transferred < size) {
+					transferred += offsetChannel.transferTo(transferred, size - transferred, channel);
+				}
+			}
+			ByteBuffer header = ByteBuffer.allocate(HeaderSize);
+			header.putInt(Magic).putInt(Version).putInt(sections).putInt(0);
+			header.putLong(sectionTablePosition).putLong(rowIndexPosition).flip();
+			channel.write(header, 0);
+		}
+		finally {
+			Files.deleteIfExists(offsets);
+		}
+	}
+
+	/**
+	 * Get the codec of the strings encoded in UTF-8.
+	 * 
+	 * @return the string codec
+	 */
+	public static RowCodec<String> stringCodec() {
+		return new RowCodec<String>() {
+
+			@Override
+			public void encode(String item, DataOutput output) throws IOException {
+				byte[] bytes = item.getBytes(UTF_8);
+				output.write(bytes);
+			}
+
+			@Override
+			public String decode(ByteBuffer buffer) {
+				return UTF_8.decode(buffer).toString();
+			}
+		};
+	}
+
+	private static void align(DataOutput output, long position) throws IOException {
+		output.write(new byte[(int)(-position & 7)]);
+	}
+
+	/**
+	 * This internal class counts the bytes written through the buffered output,
+	 * so the writer knows the file position of each row.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		private CountingOutputStream(OutputStream output) {
+			super(output);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			out.write(bytes, offset, length);
+			count += length;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/* NestedIndexPath.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+
+/**
+ * This class provides an immutable index path of any number of levels for
+ * the items of a {@link NestedSectionedListViewDataSource}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class NestedIndexPath implements IndexPath {
+
+	private final int[] indexes;
+
+	/**
+	 * Get the index path of the header of the section.
+	 * 
+	 * @param section the indexes of the section at each level
+	 * @return the index path of the header
+	 */
+	static NestedIndexPath ofHeader(int[] section) {
+		return ofRow(section, SectionHeaderRow);
+	}
+
+	/**
+	 * Get the index path of the row in the section.
+	 * 
+	 * @param section the indexes of the section at each level
+	 * @param row the row index
+	 * @return the index path of the row
+	 */
+	static NestedIndexPath ofRow(int[] section, int row) {
+		int[] indexes = copyOf(section, section.length + 1);
+		indexes[section.length] = row;
+		return new NestedIndexPath(indexes);
+	}
+
+	/**
+	 * Get the indexes of the section that contains the item at the index path.
+	 * 
+	 * @param path the index path of a row or a section header
+	 * @return the indexes of the section at each level
+	 */
+	static int[] sectionOf(IndexPath path) {
+		if (path instanceof NestedIndexPath) {
+			return copyOfRange(((NestedIndexPath)path).indexes, 0, path.getLength() - 1);
+		}
+		int[] section = new int[path.getLength() - 1];
+		for (int level = 0; level < section.length; level++) {
+			section[level] = path.getIndex(level);
+		}
+		return section;
+	}
+
+	private NestedIndexPath(int[] indexes) {
+		this.indexes = indexes;
+	}
+
+	@Override
+	public int getSection() {
+		return indexes[0];
+	}
+
+	@Override
+	public int getRow() {
+		return indexes[indexes.length - 1];
+	}
+
+	@Override
+	public int getLength() {
+		return indexes.length;
+	}
+
+	@Override
+	public int getIndex(int level) {
+		return indexes[level];
+	}
+}
@@ -0,0 +1,419 @@
+/* NestedSectionedListContent.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOf;
+
+import java.util.List;
+
+/**
+ * This internal class keeps the items loaded from the {@link NestedSectionedListViewDataSource}
+ * as a tree of sections, and maps between the flat index of the displayed
+ * items and the sections. Each section keeps the number of the displayed
+ * items of its subsections in a Fenwick tree, so a flat index is found in
+ * logarithmic time at every level, and collapsing, expanding or reloading a
+ * section updates only the sums along its ancestors instead of enumerating
+ * the other sections again.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class NestedSectionedListContent<RawItemType> {
+
+	private static final int[] Root = new int[0];
+
+	private final Section<RawItemType> root;
+
+	/**
+	 * Load all the sections and their items from the data source.
+	 * 
+	 * @param dataSource the data source
+	 * @return the loaded content
+	 */
+	static <RawItemType> NestedSectionedListContent<RawItemType> load(NestedSectionedListViewDataSource<RawItemType> dataSource) {
+		return new NestedSectionedListContent<>(loadSection(dataSource, Root));
+	}
+
+	private static <RawItemType> Section<RawItemType> loadSection(NestedSectionedListViewDataSource<RawItemType> dataSource, int[] indexes) {
+		Section<RawItemType> section = new Section<>();
+		if (indexes.length > 0 && dataSource.hasSectionHeader(indexes)) {
+			section.header = new NestedSectionedListItem<>(NestedIndexPath.ofHeader(indexes), null);
+		}
+		int rows = indexes.length > 0 ? dataSource.numberOfRowsInSection(indexes) : 0;
+		section.rows = newItemArray(rows);
+		for (int row = 0; row < rows; row++) {
+			NestedIndexPath path = NestedIndexPath.ofRow(indexes, row);
+			section.rows[row] = new NestedSectionedListItem<>(path, dataSource.getItem(path));
+		}
+		int subsections = dataSource.numberOfSubsections(indexes);
+		section.subsections = newSectionArray(subsections);
+		section.sizes = new int[subsections + 1];
+		int[] childIndexes = copyOf(indexes, indexes.length + 1);
+		for (int index = 0; index < subsections; index++) {
+			childIndexes[indexes.length] = index;
+			section.subsections[index] = loadSection(dataSource, childIndexes);
+			section.sizes[index + 1] = section.subsections[index].size;
+		}
+		// build the Fenwick tree in place from the sizes
+		for (int node = 1; node <= subsections; node++) {
+			int parent = node + (node & -node);
+			if (parent <= subsections) {
+				section.sizes[parent] += section.sizes[node];
+			}
+		}
+		section.size = section.headerCount() + section.expandedSize();
+		return section;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <RawItemType> SectionedListItem<RawItemType>[] newItemArray(int length) {
+		return (SectionedListItem<RawItemType>[])new SectionedListItem<?>[length];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <RawItemType> Section<RawItemType>[] newSectionArray(int length) {
+		return (Section<RawItemType>[])new Section<?>[length];
+	}
+
+	private NestedSectionedListContent(Section<RawItemType> rootSection) {
+		root = rootSection;
+	}
+
+	/**
+	 * Get the number of the displayed items, including the headers.
+	 * 
+	 * @return the number of the displayed items
+	 */
+	int size() {
+		return root.size;
+	}
+
+	/**
+	 * Get the displayed item at the flat index.
+	 * 
+	 * @param index the flat index
+	 * @return the item
+	 */
+	SectionedListItem<RawItemType> get(int index) {
+		if (index < 0 || index >= root.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + root.size);
+		}
+		Section<RawItemType> section = root;
+		int offset = index;
+		while (true) {
+			if (section.header != null) {
+				if (offset == 0) {
+					return section.header;
+				}
+				offset--;
+			}
+			if (offset < section.rows.length) {
+				return section.rows[offset];
+			}
+			offset -= section.rows.length;
+			int child = section.subsectionAt(offset);
+			offset -= section.prefixSize(child);
+			section = section.subsections[child];
+		}
+	}
+
+	/**
+	 * Get the flat index of the row or the section header at the index path.
+	 * 
+	 * @param path the index path of a row or a section header
+	 * @return the flat index, or -1 if not found or not displayed
+	 */
+	int flatIndexOf(IndexPath path) {
+		Section<RawItemType> section = root;
+		int index = 0;
+		for (int level = 0; level < path.getLength() - 1; level++) {
+			int child = path.getIndex(level);
+			if (section.collapsed || child < 0 || child >= section.subsections.length) {
+				return -1;
+			}
+			index += section.headerCount() + section.rows.length + section.prefixSize(child);
+			section = section.subsections[child];
+		}
+		int row = path.getRow();
+		if (row == IndexPath.SectionHeaderRow) {
+			return section.header != null ? index : -1;
+		}
+		if (section.collapsed || row < 0 || row >= section.rows.length) {
+			return -1;
+		}
+		return index + section.headerCount() + row;
+	}
+
+	/**
+	 * Get whether the section is collapsed.
+	 * 
+	 * @param indexes the indexes of the section
+	 * @return true if collapsed; false if expanded or not found
+	 */
+	boolean isCollapsed(int[] indexes) {
+		Section<RawItemType> section = find(indexes);
+		return section != null && section.collapsed;
+	}
+
+	/**
+	 * Collapse the section, so that only its header is displayed. The items
+	 * of the section are hidden as a contiguous range.
+	 * 
+	 * @param indexes the indexes of the section
+	 * @return the range of the hidden flat indexes, or null if nothing is
+	 *         hidden from the displayed items
+	 */
+	int[] collapse(int[] indexes) {
+		Section<RawItemType> section = find(indexes);
+		if (section == null || section.collapsed) {
+			return null;
+		}
+		int hidden = section.size - section.headerCount();
+		section.collapsed = true;
+		resize(indexes, -hidden);
+		int from = firstIndexOf(indexes);
+		return from >= 0 ? new int[] { from, from + hidden } : null;
+	}
+
+	/**
+	 * Expand the collapsed section.
+	 * 
+	 * @param indexes the indexes of the section
+	 * @return the range of the shown flat indexes, or null if nothing is shown
+	 *         in the displayed items
+	 */
+	int[] expand(int[] indexes) {
+		Section<RawItemType> section = find(indexes);
+		if (section == null || !section.collapsed) {
+			return null;
+		}
+		int shown = section.expandedSize();
+		section.collapsed = false;
+		resize(indexes, shown);
+		int from = firstIndexOf(indexes);
+		return from >= 0 ? new int[] { from, from + shown } : null;
+	}
+
+	/**
+	 * Load the section again from the data source, and replace the section
+	 * of the content with it. The collapsed state of the section is kept.
+	 * 
+	 * @param dataSource the data source
+	 * @param indexes the indexes of the section
+	 * @return the range of the flat indexes of the section before the reload,
+	 *         or null if the section is not displayed
+	 */
+	int[] reload(NestedSectionedListViewDataSource<RawItemType> dataSource, int[] indexes) {
+		Section<RawItemType> previous = find(indexes);
+		if (previous == null || indexes.length == 0) {
+			return null;
+		}
+		int[] displayed = displayedRange(indexes);
+		Section<RawItemType> section = loadSection(dataSource, indexes);
+		if (previous.collapsed) {
+			section.collapsed = true;
+			section.size = section.headerCount();
+		}
+		find(copyOf(indexes, indexes.length - 1)).subsections[indexes[indexes.length - 1]] = section;
+		// the new section is not counted yet, so resize the ancestors only
+		int delta = section.size - previous.size;
+		section.size -= delta;
+		resize(indexes, delta);
+		return displayed;
+	}
+
+	/**
+	 * Get the range of the flat indexes of the section, including its header.
+	 * 
+	 * @param indexes the indexes of the section
+	 * @return the range, or null if the section is not displayed
+	 */
+	int[] displayedRange(int[] indexes) {
+		Section<RawItemType> section = find(indexes);
+		int from = section != null ? firstIndexOf(indexes) : -1;
+		if (from < 0) {
+			return null;
+		}
+		from -= section.headerCount();
+		return new int[] { from, from + section.size };
+	}
+
+	/**
+	 * Add the displayed items of the section into the list.
+	 * 
+	 * @param indexes the indexes of the section
+	 * @param withHeader true to add the header of the section
+	 * @param items the list to add the items into
+	 */
+	void flatten(int[] indexes, boolean withHeader, List<SectionedListItem<RawItemType>> items) {
+		Section<RawItemType> section = find(indexes);
+		if (section != null) {
+			if (withHeader && section.header != null) {
+				items.add(section.header);
+			}
+			if (!section.collapsed) {
+				flattenSubsections(section, items);
+			}
+		}
+	}
+
+	private static <RawItemType> void flattenSubsections(Section<RawItemType> section, List<SectionedListItem<RawItemType>> items) {
+		for (SectionedListItem<RawItemType> row : section.rows) {
+			items.add(row);
+		}
+		for (Section<RawItemType> subsection : section.subsections) {
+			if (subsection.header != null) {
+				items.add(subsection.header);
+			}
+			if (!subsection.collapsed) {
+				flattenSubsections(subsection, items);
+			}
+		}
+	}
+
+	/**
+	 * Get the offsets of the top-level sections. The items of the nested
+	 * sections are counted as the rows of their top-level section.
+	 * 
+	 * @return the section offset index of the top-level sections
+	 */
+	SectionOffsetIndex topLevelOffsets() {
+		SectionOffsetIndex offsets = new SectionOffsetIndex(root.subsections.length);
+		for (int index = 0; index < root.subsections.length; index++) {
+			Section<RawItemType> section = root.subsections[index];
+			offsets.append(index, section.header != null, section.size - section.headerCount());
+		}
+		return offsets;
+	}
+
+	/**
+	 * Get the flat index of the first item after the header of the section.
+	 * 
+	 * @return the flat index, or -1 if an ancestor of the section is collapsed
+	 */
+	private int firstIndexOf(int[] indexes) {
+		Section<RawItemType> section = root;
+		int index = 0;
+		for (int level = 0; level < indexes.length; level++) {
+			if (section.collapsed) {
+				return -1;
+			}
+			index += section.headerCount() + section.rows.length + section.prefixSize(indexes[level]);
+			section = section.subsections[indexes[level]];
+		}
+		return index + section.headerCount();
+	}
+
+	private Section<RawItemType> find(int[] indexes) {
+		Section<RawItemType> section = root;
+		for (int index : indexes) {
+			if (index < 0 || index >= section.subsections.length) {
+				return null;
+			}
+			section = section.subsections[index];
+		}
+		return section;
+	}
+
+	/**
+	 * Add the delta to the size of the section and its ancestors. The sizes of
+	 * the collapsed ancestors do not count their subsections, so the update
+	 * stops at the first collapsed ancestor.
+	 */
+	private void resize(int[] indexes, int delta) {
+		Section<RawItemType>[] chain = newSectionArray(indexes.length + 1);
+		chain[0] = root;
+		for (int level = 0; level < indexes.length; level++) {
+			chain[level + 1] = chain[level].subsections[indexes[level]];
+		}
+		chain[indexes.length].size += delta;
+		for (int level = indexes.length - 1; level >= 0; level--) {
+			Section<RawItemType> parent = chain[level];
+			parent.addSize(indexes[level], delta);
+			if (parent.collapsed) {
+				return;
+			}
+			parent.size += delta;
+		}
+	}
+
+	/**
+	 * A section in the tree. The sizes of the subsections are kept in a
+	 * Fenwick tree whose node <code>i</code> sums the sizes of the
+	 * subsections from <code>i - (i &amp; -i)</code> to <code>i - 1</code>.
+	 */
+	private static final class Section<RawItemType> {
+
+		private SectionedListItem<RawItemType> header;
+		private SectionedListItem<RawItemType>[] rows;
+		private Section<RawItemType>[] subsections;
+		private int[] sizes;
+		private int size;
+		private boolean collapsed;
+
+		private int headerCount() {
+			return header != null ? 1 : 0;
+		}
+
+		private int expandedSize() {
+			return rows.length + prefixSize(subsections.length);
+		}
+
+		/**
+		 * Get the number of the displayed items of the first subsections.
+		 */
+		private int prefixSize(int count) {
+			int sum = 0;
+			for (int node = count; node > 0; node -= node & -node) {
+				sum += sizes[node];
+			}
+			return sum;
+		}
+
+		private void addSize(int subsection, int delta) {
+			for (int node = subsection + 1; node < sizes.length; node += node & -node) {
+				sizes[node] += delta;
+			}
+		}
+
+		/**
+		 * Get the subsection that contains the displayed item at the offset
+		 * from the first subsection.
+		 */
+		private int subsectionAt(int offset) {
+			int node = 0;
+			int remaining = offset;
+			for (int step = Integer.highestOneBit(Math.max(1, sizes.length - 1)); step > 0; step >>= 1) {
+				int next = node + step;
+				if (next < sizes.length && sizes[next] <= remaining) {
+					node = next;
+					remaining -= sizes[next];
+				}
+			}
+			return node;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/* NestedSectionedListItem.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This class provides the list item of a header or a row loaded from the
+ * {@link NestedSectionedListViewDataSource} with its index path of several
+ * levels.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class NestedSectionedListItem<RawItemType> implements SectionedListItem<RawItemType> {
+
+	private final NestedIndexPath indexPath;
+	private final RawItemType rawItem;
+
+	/**
+	 * Construct a <code>NestedSectionedListItem</code> instance with the index
+	 * path and the raw item.
+	 * 
+	 * @param path the index path; the row index is {@link IndexPath#SectionHeaderRow} for a header
+	 * @param item the raw item; null for a header
+	 */
+	NestedSectionedListItem(NestedIndexPath path, RawItemType item) {
+		indexPath = path;
+		rawItem = item;
+	}
+
+	@Override
+	public boolean isHeaderItem() {
+		return indexPath.getRow() == IndexPath.SectionHeaderRow;
+	}
+
+	@Override
+	public RawItemType getRawItem() {
+		return rawItem;
+	}
+
+	@Override
+	public IndexPath getIndexPath() {
+		return indexPath;
+	}
+}
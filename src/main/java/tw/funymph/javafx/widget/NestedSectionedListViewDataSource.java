@@ -0,0 +1,83 @@
+/* NestedSectionedListViewDataSource.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This interface defines the data source of the sections nested in sections,
+ * for example, categories, subcategories and items, for the {@link SectionedListView}.
+ * A section is specified by its index at each level, from the top-level
+ * section to itself, and no index for the root of the hierarchy. Each
+ * section can have its own header, and the rows of a section are displayed
+ * after its header and before its subsections. The index path of a row has
+ * the indexes of its section followed by the row index.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ * @see SectionedListView#setNestedDataSource(NestedSectionedListViewDataSource)
+ */
+public interface NestedSectionedListViewDataSource<RawItemType> {
+
+	/**
+	 * Get the number of the subsections in the given section.
+	 * 
+	 * @param section the indexes of the section; empty for the top-level sections
+	 * @return the number of the subsections
+	 */
+	public int numberOfSubsections(int... section);
+
+	/**
+	 * Get whether the section needs a header view or not.
+	 * 
+	 * @param section the indexes of the section
+	 * @return true if the section needs a header view
+	 */
+	public boolean hasSectionHeader(int... section);
+
+	/**
+	 * Get the title of the section.
+	 * 
+	 * @param section the indexes of the section
+	 * @return the section title
+	 */
+	public String getSectionTitle(int... section);
+
+	/**
+	 * Get the number of the rows in the section, not including the rows of
+	 * its subsections.
+	 * 
+	 * @param section the indexes of the section
+	 * @return the number of the rows
+	 */
+	public int numberOfRowsInSection(int... section);
+
+	/**
+	 * Get the item of the row at the specified index path.
+	 * 
+	 * @param path the index path of the row
+	 * @return the item of the row
+	 */
+	public RawItemType getItem(IndexPath path);
+}
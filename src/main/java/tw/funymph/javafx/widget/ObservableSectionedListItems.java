@@ -0,0 +1,108 @@
+/* ObservableSectionedListItems.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * This internal class provides the observable items of the {@link SectionedListView}
+ * that can replace a range of the items with one change, so that the list
+ * view is notified once when the items are patched or a row is moved.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class ObservableSectionedListItems<RawItemType> extends ModifiableObservableListBase<SectionedListItem<RawItemType>> {
+
+	private final List<SectionedListItem<RawItemType>> items;
+
+	/**
+	 * Construct an <code>ObservableSectionedListItems</code> instance that
+	 * wraps the given list.
+	 * 
+	 * @param items the list to wrap
+	 */
+	ObservableSectionedListItems(List<SectionedListItem<RawItemType>> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Replace the items in the range with the new items, and notify the
+	 * listeners with one change.
+	 * 
+	 * @param from the start of the range; inclusive
+	 * @param to the end of the range; exclusive
+	 * @param newItems the items to replace with
+	 */
+	void replace(int from, int to, List<? extends SectionedListItem<RawItemType>> newItems) {
+		List<SectionedListItem<RawItemType>> range = items.subList(from, to);
+		List<SectionedListItem<RawItemType>> removed = new ArrayList<>(range);
+		beginChange();
+		try {
+			if (removed.size() == newItems.size()) {
+				for (int index = 0; index < removed.size(); index++) {
+					range.set(index, newItems.get(index));
+				}
+			}
+			else {
+				range.clear();
+				items.addAll(from, newItems);
+			}
+			nextReplace(from, from + newItems.size(), removed);
+		}
+		finally {
+			endChange();
+		}
+	}
+
+	@Override
+	public SectionedListItem<RawItemType> get(int index) {
+		return items.get(index);
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	protected void doAdd(int index, SectionedListItem<RawItemType> element) {
+		items.add(index, element);
+	}
+
+	@Override
+	protected SectionedListItem<RawItemType> doSet(int index, SectionedListItem<RawItemType> element) {
+		return items.set(index, element);
+	}
+
+	@Override
+	protected SectionedListItem<RawItemType> doRemove(int index) {
+		return items.remove(index);
+	}
+}
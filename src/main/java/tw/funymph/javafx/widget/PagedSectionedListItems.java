@@ -0,0 +1,113 @@
+/* PagedSectionedListItems.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * This internal class is the read-only list of the displayed items of a paged
+ * {@link SectionedListContent}. The item at a flat index is resolved through
+ * the {@link SectionOffsetIndex} and the displayed rows when it is accessed,
+ * so the rows of a section are loaded only when the list view shows them.
+ * Looking up an item finds it by its index path instead of walking through
+ * the list, so that it does not load any section either.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class PagedSectionedListItems<RawItemType> extends AbstractList<SectionedListItem<RawItemType>> implements RandomAccess {
+
+	private final int[][] rowMaps;
+	private final SectionOffsetIndex offsetIndex;
+	private final SectionedListView<RawItemType> listView;
+	private final SectionedListContent<RawItemType> content;
+
+	/**
+	 * Construct a <code>PagedSectionedListItems</code> instance.
+	 * 
+	 * @param listView the list view that maps the index paths to the flat indices
+	 * @param content the paged content
+	 * @param offsetIndex the offsets of the displayed sections
+	 * @param rowMaps the displayed rows of each section; null for all rows
+	 */
+	PagedSectionedListItems(SectionedListView<RawItemType> listView, SectionedListContent<RawItemType> content, SectionOffsetIndex offsetIndex, int[][] rowMaps) {
+		this.listView = listView;
+		this.content = content;
+		this.offsetIndex = offsetIndex;
+		this.rowMaps = rowMaps;
+	}
+
+	@Override
+	public SectionedListItem<RawItemType> get(int index) {
+		int position = offsetIndex.positionOf(index);
+		if (position < 0) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		int section = offsetIndex.getSection(position);
+		int row = index - offsetIndex.getStart(position);
+		if (offsetIndex.hasHeader(position)) {
+			if (row == 0) {
+				return content.getHeader(section);
+			}
+			row--;
+		}
+		int[] rowMap = rowMaps != null ? rowMaps[section] : null;
+		return content.getRow(section, rowMap != null ? rowMap[row] : row);
+	}
+
+	@Override
+	public int indexOf(Object object) {
+		if (!(object instanceof SectionedListItem)) {
+			return -1;
+		}
+		SectionedListItem<?> item = (SectionedListItem<?>)object;
+		int section = item.getIndexPath().getSection();
+		if (section < 0 || section >= content.numberOfSections()) {
+			return -1;
+		}
+		int index = -1;
+		if (item.isHeaderItem()) {
+			int position = offsetIndex.positionOfDisplayedSection(section);
+			index = position >= 0 && offsetIndex.hasHeader(position) ? offsetIndex.getStart(position) : -1;
+		}
+		else if (content.isResident(section)) {
+			// the rows of an evicted section are reloaded as new items
+			index = listView.flatIndexOf(section, item.getIndexPath().getRow());
+		}
+		return index >= 0 && get(index) == item ? index : -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object object) {
+		return indexOf(object);
+	}
+
+	@Override
+	public int size() {
+		return offsetIndex.size();
+	}
+}
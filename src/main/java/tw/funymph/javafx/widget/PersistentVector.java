@@ -0,0 +1,261 @@
+/* PersistentVector.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOf;
+
+/**
+ * This internal class is an immutable vector that shares its structure with
+ * the vectors derived from it. The elements are kept in a tree of 32-element
+ * arrays plus a tail array, so that getting, replacing and appending an
+ * element take logarithmic time with base 32, and a derived vector only
+ * copies the arrays on the path to the changed element.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class PersistentVector<E> {
+
+	private static final int Bits = 5;
+	private static final int Width = 1 << Bits;
+	private static final int Mask = Width - 1;
+	private static final Object[] EmptyArray = new Object[0];
+
+	private static final PersistentVector<?> Empty = new PersistentVector<>(0, Bits, new Object[Width], EmptyArray);
+
+	private final int size;
+	private final int shift;
+	private final Object[] root;
+	private final Object[] tail;
+
+	/**
+	 * Get the empty vector.
+	 * 
+	 * @return the empty vector
+	 */
+	@SuppressWarnings("unchecked")
+	static <E> PersistentVector<E> empty() {
+		return (PersistentVector<E>)Empty;
+	}
+
+	private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	/**
+	 * Get the number of the elements.
+	 * 
+	 * @return the number of the elements
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Get the element at the index.
+	 * 
+	 * @param index the index of the element
+	 * @return the element
+	 */
+	@SuppressWarnings("unchecked")
+	E get(int index) {
+		return (E)leafOf(index)[index & Mask];
+	}
+
+	/**
+	 * Get the array that keeps the element at the index. Two vectors have the
+	 * same elements in the range of the array if they share the array, which
+	 * makes comparing the derived vectors fast.
+	 * 
+	 * @param index the index of the element
+	 * @return the array of the element and its neighbors
+	 */
+	Object[] leafOf(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index >= tailOffset()) {
+			return tail;
+		}
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= Bits) {
+			node = (Object[])node[(index >>> level) & Mask];
+		}
+		return node;
+	}
+
+	/**
+	 * Get the vector with the element at the index replaced.
+	 * 
+	 * @param index the index of the element
+	 * @param element the new element
+	 * @return the new vector
+	 */
+	PersistentVector<E> set(int index, E element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index >= tailOffset()) {
+			Object[] newTail = tail.clone();
+			newTail[index & Mask] = element;
+			return new PersistentVector<>(size, shift, root, newTail);
+		}
+		return new PersistentVector<>(size, shift, set(shift, root, index, element), tail);
+	}
+
+	/**
+	 * Get the vector with the element appended.
+	 * 
+	 * @param element the new element
+	 * @return the new vector
+	 */
+	PersistentVector<E> add(E element) {
+		if (size - tailOffset() < Width) {
+			Object[] newTail = copyOf(tail, tail.length + 1);
+			newTail[tail.length] = element;
+			return new PersistentVector<>(size + 1, shift, root, newTail);
+		}
+		Object[] newRoot;
+		int newShift = shift;
+		if ((size >>> Bits) > (1 << shift)) {
+			newRoot = new Object[Width];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += Bits;
+		}
+		else {
+			newRoot = pushTail(shift, root, tail);
+		}
+		return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { element });
+	}
+
+	/**
+	 * Get the vector of the elements in the range. A range from the start
+	 * shares the arrays before the end with this vector and takes logarithmic
+	 * time; any other range is copied in linear time.
+	 * 
+	 * @param from the start index (inclusive)
+	 * @param to the end index (exclusive)
+	 * @return the new vector
+	 */
+	PersistentVector<E> slice(int from, int to) {
+		if (from < 0 || to > size || from > to) {
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+		}
+		if (from == 0) {
+			return take(to);
+		}
+		PersistentVector<E> vector = empty();
+		for (int index = from; index < to; index++) {
+			vector = vector.add(get(index));
+		}
+		return vector;
+	}
+
+	/**
+	 * Get the vector of the first elements. The full arrays before the last
+	 * element are shared, the array of the last element is copied as the new
+	 * tail, and the tree is trimmed along the path to the new tail.
+	 * 
+	 * @param count the number of the elements to keep
+	 * @return the new vector
+	 */
+	private PersistentVector<E> take(int count) {
+		if (count == size) {
+			return this;
+		}
+		if (count == 0) {
+			return empty();
+		}
+		int oldTailOffset = tailOffset();
+		if (count > oldTailOffset) {
+			return new PersistentVector<>(count, shift, root, copyOf(tail, count - oldTailOffset));
+		}
+		int newTailOffset = ((count - 1) >>> Bits) << Bits;
+		Object[] newTail = copyOf(leafOf(count - 1), count - newTailOffset);
+		if (newTailOffset == 0) {
+			return new PersistentVector<>(count, Bits, new Object[Width], newTail);
+		}
+		Object[] newRoot = trim(shift, root, newTailOffset - 1);
+		int newShift = shift;
+		while (newShift > Bits && newRoot[1] == null) {
+			newRoot = (Object[])newRoot[0];
+			newShift -= Bits;
+		}
+		return new PersistentVector<>(count, newShift, newRoot, newTail);
+	}
+
+	private int tailOffset() {
+		return size < Width ? 0 : ((size - 1) >>> Bits) << Bits;
+	}
+
+	private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+		int child = ((size - 1) >>> level) & Mask;
+		Object[] node = parent.clone();
+		if (level == Bits) {
+			node[child] = tailNode;
+		}
+		else {
+			Object[] existing = (Object[])parent[child];
+			node[child] = existing != null ? pushTail(level - Bits, existing, tailNode) : newPath(level - Bits, tailNode);
+		}
+		return node;
+	}
+
+	private static Object[] newPath(int level, Object[] node) {
+		if (level == 0) {
+			return node;
+		}
+		Object[] path = new Object[Width];
+		path[0] = newPath(level - Bits, node);
+		return path;
+	}
+
+	private static Object[] trim(int level, Object[] node, int last) {
+		int child = (last >>> level) & Mask;
+		Object[] copy = new Object[Width];
+		System.arraycopy(node, 0, copy, 0, child + 1);
+		if (level > Bits) {
+			copy[child] = trim(level - Bits, (Object[])node[child], last);
+		}
+		return copy;
+	}
+
+	private static Object[] set(int level, Object[] node, int index, Object element) {
+		Object[] copy = node.clone();
+		if (level == 0) {
+			copy[index & Mask] = element;
+		}
+		else {
+			int child = (index >>> level) & Mask;
+			copy[child] = set(level - Bits, (Object[])node[child], index, element);
+		}
+		return copy;
+	}
+}
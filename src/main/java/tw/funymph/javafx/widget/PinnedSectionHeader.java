@@ -0,0 +1,123 @@
+/* PinnedSectionHeader.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+
+/**
+ * This internal class provides the overlay that keeps the header of the
+ * section at the top of the viewport visible while scrolling. Only one
+ * header node is created by the {@link SectionedListViewCellFactory} and
+ * it is rebound through {@link SectionedListHeader#updateTitle(String)}
+ * whenever the top section changes.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class PinnedSectionHeader<RawItemType> extends ListCell<SectionedListItem<RawItemType>> {
+
+	private static final int NoSection = -1;
+
+	private int section;
+	private Node header;
+	private SectionedListView<RawItemType> listView;
+
+	/**
+	 * Construct a <code>PinnedSectionHeader</code> instance with the host
+	 * sectioned list view.
+	 * 
+	 * @param listView the host list view
+	 */
+	PinnedSectionHeader(SectionedListView<RawItemType> listView) {
+		this.listView = listView;
+		section = NoSection;
+		setManaged(false);
+		setVisible(false);
+		setPadding(new Insets(0.0));
+		getStyleClass().add("pinned-section-header");
+	}
+
+	/**
+	 * Show the header of the given section. The header node is created at
+	 * the first time and rebound with the new title afterward.
+	 * 
+	 * @param sectionIndex the section index in the data source
+	 */
+	void showSection(int sectionIndex) {
+		if (!isVisible()) {
+			setVisible(true);
+		}
+		if (section == sectionIndex && header != null) {
+			return;
+		}
+		section = sectionIndex;
+		String title = listView.getSectionTitle(new ImmutableIndexPath(sectionIndex, IndexPath.SectionHeaderRow));
+		if (header == null) {
+			header = listView.getSectionedListViewCellFactory().getSectionHeader(this, sectionIndex, title);
+			setGraphic(header);
+		}
+		else {
+			((SectionedListHeader)header).updateTitle(title);
+		}
+	}
+
+	/**
+	 * Hide the header, e.g. the top section does not have a header.
+	 */
+	void hide() {
+		if (isVisible()) {
+			setVisible(false);
+		}
+	}
+
+	/**
+	 * Forget the displayed section so that the title will be reloaded from
+	 * the data source at the next time the header is shown.
+	 */
+	void invalidateSection() {
+		section = NoSection;
+	}
+
+	/**
+	 * Drop the header node so that a new one will be created by the current
+	 * cell factory at the next time the header is shown.
+	 */
+	void invalidateHeader() {
+		section = NoSection;
+		header = null;
+		setGraphic(null);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		// the overlay is laid out after the cells of the list, so the top
+		// section is decided by the positions of this pulse
+		listView.updatePinnedHeader();
+		super.layoutChildren();
+	}
+}
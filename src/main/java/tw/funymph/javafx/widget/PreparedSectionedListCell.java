@@ -0,0 +1,83 @@
+/* PreparedSectionedListCell.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * The cell in a section can implement this interface to bind the item in
+ * two phases. The expensive work, e.g. laying out rich text or decoding a
+ * thumbnail, is done by {@link #prepare(Object)} in a background thread
+ * and produces an immutable render model. The model is then applied to the
+ * cell by {@link #apply(Object)} in the JavaFX application thread. If the
+ * cell is rebound to another item before the preparation finishes, the
+ * preparation is cancelled and its model is never applied.<br />
+ * <br />
+ * The {@link SectionedListViewCellFactory} should create the prepared cells
+ * without binding the item, because the {@link SectionedListView} always
+ * binds the item through the two phases.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public interface PreparedSectionedListCell<RawItemType, ModelType> extends SectionedListCell<RawItemType> {
+
+	/**
+	 * Prepare the render model for the new item. This method is called in a
+	 * background thread, so it must not access the cell or the scene graph.
+	 * 
+	 * @param item the new item
+	 * @return the immutable render model
+	 */
+	ModelType prepare(RawItemType item);
+
+	/**
+	 * Apply the prepared render model to the cell. This method is called in
+	 * the JavaFX application thread.
+	 * 
+	 * @param model the render model returned by {@link #prepare(Object)}
+	 */
+	void apply(ModelType model);
+
+	/**
+	 * Show the placeholder while the render model for the new item is being
+	 * prepared. This method is called in the JavaFX application thread, and
+	 * the default implementation does nothing.
+	 * 
+	 * @param item the new item
+	 */
+	default void showPlaceholder(RawItemType item) {
+	}
+
+	/**
+	 * Update the cell for the new item in the current thread by preparing and
+	 * applying the render model at once.
+	 * 
+	 * @param item the new item
+	 */
+	@Override
+	default void updateItem(RawItemType item) {
+		apply(prepare(item));
+	}
+}
@@ -0,0 +1,62 @@
+/* ReorderableSectionedListViewDataSource.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This interface extends the data source with the rows that can be moved by
+ * the user. When the row reordering of the {@link SectionedListView} is
+ * enabled, the user can drag a row and drop it onto another row or a section
+ * header, and the list view calls {@link #moveRow(IndexPath, IndexPath)} and
+ * moves the displayed row without reloading the data source. Therefore, the
+ * data source does not have to notify the move to its listeners.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ReorderableSectionedListViewDataSource<RawItemType> extends SectionedListViewDataSource<RawItemType> {
+
+	/**
+	 * Get whether the row at the specified index path can be moved. The
+	 * default implementation allows all the rows to be moved.
+	 * 
+	 * @param path the index path of the row
+	 * @return true if the row can be moved
+	 */
+	public default boolean canMoveRow(IndexPath path) {
+		return true;
+	}
+
+	/**
+	 * Move the row from an index path to another one. The target index path
+	 * is where the row is after the move: the rows after the source in its
+	 * section move up by one, and the rows from the target in its section move
+	 * down by one.
+	 * 
+	 * @param from the index path of the row before the move
+	 * @param to the index path of the row after the move
+	 */
+	public void moveRow(IndexPath from, IndexPath to);
+}
@@ -0,0 +1,105 @@
+/* SectionIndexBar.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.List;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+/**
+ * This internal class provides the side bar that shows the titles of the
+ * section index. Pressing or dragging over the bar makes the host list
+ * view jump to the section of the title under the mouse. The title is
+ * found from the mouse position directly because the titles share the
+ * height of the bar equally.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionIndexBar<RawItemType> extends VBox {
+
+	private static final int NoTitle = -1;
+
+	private int currentTitle;
+	private SectionedListView<RawItemType> listView;
+
+	/**
+	 * Construct a <code>SectionIndexBar</code> instance with the host
+	 * sectioned list view.
+	 * 
+	 * @param listView the host list view
+	 */
+	SectionIndexBar(SectionedListView<RawItemType> listView) {
+		this.listView = listView;
+		currentTitle = NoTitle;
+		setManaged(false);
+		setFillWidth(true);
+		setAlignment(Pos.CENTER);
+		getStyleClass().add("section-index-bar");
+		setStyle("-fx-padding: 2 3 2 3; -fx-font-size: 0.8em;");
+		setOnMousePressed(this::jumpToTitle);
+		setOnMouseDragged(this::jumpToTitle);
+		setOnMouseReleased(event -> currentTitle = NoTitle);
+	}
+
+	/**
+	 * Replace the displayed titles.
+	 * 
+	 * @param titles the new titles
+	 */
+	void setTitles(List<String> titles) {
+		currentTitle = NoTitle;
+		getChildren().clear();
+		for (String title : titles) {
+			Label label = new Label(title);
+			label.setMaxWidth(Double.MAX_VALUE);
+			label.setMaxHeight(Double.MAX_VALUE);
+			label.setAlignment(Pos.CENTER);
+			setVgrow(label, Priority.ALWAYS);
+			getChildren().add(label);
+		}
+		setVisible(!titles.isEmpty());
+	}
+
+	private void jumpToTitle(MouseEvent event) {
+		int count = getChildren().size();
+		double height = getHeight() - snappedTopInset() - snappedBottomInset();
+		if (count == 0 || height <= 0.0) {
+			return;
+		}
+		int title = (int)((event.getY() - snappedTopInset()) * count / height);
+		title = Math.max(0, Math.min(count - 1, title));
+		if (title != currentTitle) {
+			currentTitle = title;
+			listView.scrollToSectionIndexTitle(title);
+		}
+		event.consume();
+	}
+}
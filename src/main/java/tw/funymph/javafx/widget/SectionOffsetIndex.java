@@ -0,0 +1,259 @@
+/* SectionOffsetIndex.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+/**
+ * This internal class records where each section starts in the flattened
+ * items of the {@link SectionedListView}. The sections are appended in the
+ * order they are displayed, so that the start offsets are ascending and the
+ * section containing any flat index can be found by a binary search instead
+ * of walking through the items. The position of a section in the data source
+ * is looked up from a table built at the first lookup, because the sections
+ * may be displayed in a sorted order.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionOffsetIndex {
+
+	private static final int DefaultCapacity = 16;
+
+	private int size;
+	private int count;
+	private int[] starts;
+	private int[] sections;
+	private int[] rowCounts;
+	private boolean[] headers;
+	private int[] positions;
+	private int[] followingPositions;
+
+	/**
+	 * Construct an empty <code>SectionOffsetIndex</code> instance.
+	 */
+	SectionOffsetIndex() {
+		this(DefaultCapacity);
+	}
+
+	/**
+	 * Construct an empty <code>SectionOffsetIndex</code> instance with the
+	 * expected number of sections.
+	 * 
+	 * @param capacity the expected number of sections
+	 */
+	SectionOffsetIndex(int capacity) {
+		int length = Math.max(capacity, 1);
+		starts = new int[length];
+		sections = new int[length];
+		rowCounts = new int[length];
+		headers = new boolean[length];
+	}
+
+	/**
+	 * Append a section after the last appended section.
+	 * 
+	 * @param section the section index in the data source
+	 * @param header true if the section is displayed with a header
+	 * @param rows the number of the displayed rows in the section
+	 */
+	void append(int section, boolean header, int rows) {
+		if (count == starts.length) {
+			int length = count * 2;
+			starts = copyOf(starts, length);
+			sections = copyOf(sections, length);
+			rowCounts = copyOf(rowCounts, length);
+			headers = copyOf(headers, length);
+		}
+		starts[count] = size;
+		sections[count] = section;
+		rowCounts[count] = rows;
+		headers[count] = header;
+		size += rows + (header ? 1 : 0);
+		count++;
+		positions = null;
+		followingPositions = null;
+	}
+
+	/**
+	 * Append the rows to the last appended section, e.g. when the section is
+	 * loaded incrementally.
+	 * 
+	 * @param rows the number of the appended rows
+	 */
+	void appendRows(int rows) {
+		rowCounts[count - 1] += rows;
+		size += rows;
+	}
+
+	/**
+	 * Get the total number of the flattened items, including the headers.
+	 * 
+	 * @return the number of the items
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Get the number of the displayed sections.
+	 * 
+	 * @return the number of the sections
+	 */
+	int numberOfSections() {
+		return count;
+	}
+
+	/**
+	 * Get the section index in the data source of the displayed section at
+	 * the given position.
+	 * 
+	 * @param position the position of the displayed section
+	 * @return the section index in the data source
+	 */
+	int getSection(int position) {
+		return sections[position];
+	}
+
+	/**
+	 * Get whether the displayed section at the given position has a header.
+	 * 
+	 * @param position the position of the displayed section
+	 * @return true if the section has a header
+	 */
+	boolean hasHeader(int position) {
+		return headers[position];
+	}
+
+	/**
+	 * Get the number of the displayed rows in the section at the given position.
+	 * 
+	 * @param position the position of the displayed section
+	 * @return the number of the rows
+	 */
+	int numberOfRows(int position) {
+		return rowCounts[position];
+	}
+
+	/**
+	 * Get the flat index of the first item (the header if any) of the displayed
+	 * section at the given position.
+	 * 
+	 * @param position the position of the displayed section
+	 * @return the flat index of the section
+	 */
+	int getStart(int position) {
+		return starts[position];
+	}
+
+	/**
+	 * Get the flat index of the row in the displayed section at the given position.
+	 * 
+	 * @param position the position of the displayed section
+	 * @param row the displayed row in the section
+	 * @return the flat index of the row
+	 */
+	int getFlatIndex(int position, int row) {
+		return starts[position] + (headers[position] ? 1 : 0) + row;
+	}
+
+	/**
+	 * Find the position of the given section in the data source. If the section
+	 * is not displayed, the position of the nearest following section in the
+	 * data source is returned.
+	 * 
+	 * @param section the section index in the data source
+	 * @return the position of the section, or {@link #numberOfSections()} if
+	 *         there is no such section
+	 */
+	int positionOfSection(int section) {
+		buildPositions();
+		if (section < 0) {
+			return count > 0 ? followingPositions[0] : count;
+		}
+		return section < followingPositions.length ? followingPositions[section] : count;
+	}
+
+	/**
+	 * Find the position of the given section in the data source.
+	 * 
+	 * @param section the section index in the data source
+	 * @return the position of the section, or -1 if the section is not displayed
+	 */
+	int positionOfDisplayedSection(int section) {
+		buildPositions();
+		return section >= 0 && section < positions.length ? positions[section] : -1;
+	}
+
+	private void buildPositions() {
+		if (positions != null) {
+			return;
+		}
+		int length = 0;
+		for (int position = 0; position < count; position++) {
+			length = Math.max(length, sections[position] + 1);
+		}
+		positions = new int[length];
+		followingPositions = new int[length];
+		fill(positions, -1);
+		for (int position = 0; position < count; position++) {
+			positions[sections[position]] = position;
+		}
+		int following = count;
+		for (int section = length - 1; section >= 0; section--) {
+			if (positions[section] >= 0) {
+				following = positions[section];
+			}
+			followingPositions[section] = following;
+		}
+	}
+
+	/**
+	 * Find the position of the displayed section that contains the item at
+	 * the given flat index with a binary search over the section offsets.
+	 * 
+	 * @param flatIndex the flat index of the item
+	 * @return the position of the section, or -1 if the index is out of range
+	 */
+	int positionOf(int flatIndex) {
+		if (flatIndex < 0 || flatIndex >= size) {
+			return -1;
+		}
+		int low = 0;
+		int high = count - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (starts[middle] <= flatIndex) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+}
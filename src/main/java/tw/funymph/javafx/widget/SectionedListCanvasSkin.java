@@ -0,0 +1,434 @@
+/* SectionedListCanvasSkin.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOfRange;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.event.EventHandler;
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.MultipleSelectionModel;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.ScrollToEvent;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.SkinBase;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * This internal skin draws the visible headers and rows of the {@link SectionedListView}
+ * as plain text onto one {@link Canvas}, instead of creating cells for them.
+ * All items have the same height measured once from the font, so the item at
+ * any position is computed directly and the visible items are drawn without
+ * any scene graph node, CSS pass or layout per item. The selection is kept
+ * in the selection model of the list view, so the selected raw items are
+ * still available from the list view.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListCanvasSkin<RawItemType> extends SkinBase<SectionedListView<RawItemType>> {
+
+	private static final int NoAnchor = -1;
+	private static final double TextPadding = 4.0;
+	private static final Color RowColor = Color.WHITE;
+	private static final Color HeaderColor = Color.web("#999999");
+	private static final Color SelectionColor = Color.web("#0096C9");
+	private static final Color TextColor = Color.BLACK;
+	private static final Color SelectedTextColor = Color.WHITE;
+
+	private Canvas canvas;
+	private ScrollBar scrollBar;
+
+	private Font rowFont;
+	private Font headerFont;
+	private double itemHeight;
+	private double baselineOffset;
+
+	private int anchor;
+	private boolean dirty;
+	private ObservableList<SectionedListItem<RawItemType>> observedItems;
+
+	private final InvalidationListener invalidationListener = this::invalidate;
+	private final ListChangeListener<Object> listChangeListener = change -> invalidate(null);
+	private final ListChangeListener<Object> itemChangeListener = change -> {
+		// the patched items may end before the anchor
+		anchor = Math.min(anchor, change.getList().size() - 1);
+		invalidate(null);
+	};
+	private final ChangeListener<ObservableList<SectionedListItem<RawItemType>>> itemsListener = (property, oldValue, newValue) -> observeItems(newValue);
+	private final EventHandler<ScrollToEvent<Integer>> scrollToHandler = event -> scrollToIndex(event.getScrollTarget());
+	private final EventHandler<KeyEvent> keyHandler = this::moveSelection;
+
+	/**
+	 * Construct a <code>SectionedListCanvasSkin</code> instance for the
+	 * sectioned list view.
+	 * 
+	 * @param listView the list view to draw
+	 */
+	SectionedListCanvasSkin(SectionedListView<RawItemType> listView) {
+		super(listView);
+		canvas = new Canvas();
+		scrollBar = new ScrollBar();
+		scrollBar.setOrientation(Orientation.VERTICAL);
+		// the children of the previous skin may not be removed by itself
+		getChildren().setAll(canvas, scrollBar);
+		setFont(Font.getDefault());
+
+		scrollBar.valueProperty().addListener(invalidationListener);
+		canvas.setOnMousePressed(this::selectOnPress);
+		canvas.setOnScroll(this::scrollOnWheel);
+		listView.addEventHandler(ScrollToEvent.scrollToTopIndex(), scrollToHandler);
+		listView.addEventHandler(KeyEvent.KEY_PRESSED, keyHandler);
+		listView.itemsProperty().addListener(itemsListener);
+		listView.getSelectionModel().getSelectedIndices().addListener(listChangeListener);
+		observeItems(listView.getItems());
+	}
+
+	/**
+	 * Set the font to draw the text. The height of the items and the baseline
+	 * are measured once here and cached.
+	 * 
+	 * @param font the new font
+	 */
+	void setFont(Font font) {
+		rowFont = font;
+		headerFont = Font.font(font.getFamily(), FontWeight.BOLD, font.getSize());
+		Text probe = new Text("Ag");
+		probe.setFont(font);
+		baselineOffset = probe.getBaselineOffset();
+		itemHeight = Math.ceil(probe.getLayoutBounds().getHeight() + TextPadding * 2);
+		invalidate(null);
+	}
+
+	/**
+	 * Get the flat index of the item at the y position of the canvas.
+	 * 
+	 * @param y the y position in the canvas
+	 * @return the flat index, or -1 if there is no item
+	 */
+	int indexAt(double y) {
+		int index = (int)Math.floor((scrollBar.getValue() + y) / itemHeight);
+		return index >= 0 && index < getItemCount() ? index : -1;
+	}
+
+	/**
+	 * Get the flat index of the item at the top of the canvas.
+	 * 
+	 * @return the flat index, or -1 if there is no item
+	 */
+	int getFirstVisibleIndex() {
+		return indexAt(0.0);
+	}
+
+	/**
+	 * Get the flat index of the item at the bottom of the canvas.
+	 * 
+	 * @return the flat index, or -1 if there is no item
+	 */
+	int getLastVisibleIndex() {
+		int count = getItemCount();
+		if (count == 0) {
+			return -1;
+		}
+		int index = (int)Math.floor((scrollBar.getValue() + canvas.getHeight()) / itemHeight);
+		return Math.min(count - 1, index);
+	}
+
+	/**
+	 * Get the width of the area where the items are drawn.
+	 * 
+	 * @return the width of the canvas
+	 */
+	double getViewportWidth() {
+		return canvas.getWidth();
+	}
+
+	@Override
+	public void dispose() {
+		SectionedListView<RawItemType> listView = getSkinnable();
+		listView.removeEventHandler(ScrollToEvent.scrollToTopIndex(), scrollToHandler);
+		listView.removeEventHandler(KeyEvent.KEY_PRESSED, keyHandler);
+		listView.itemsProperty().removeListener(itemsListener);
+		listView.getSelectionModel().getSelectedIndices().removeListener(listChangeListener);
+		observeItems(null);
+		getChildren().removeAll(canvas, scrollBar);
+		super.dispose();
+	}
+
+	@Override
+	protected void layoutChildren(double x, double y, double width, double height) {
+		double barWidth = scrollBar.prefWidth(height);
+		double contentHeight = getItemCount() * itemHeight;
+		boolean scrollable = contentHeight > height;
+		scrollBar.setVisible(scrollable);
+		double canvasWidth = scrollable ? Math.max(0.0, width - barWidth) : width;
+		if (canvas.getWidth() != canvasWidth || canvas.getHeight() != height) {
+			canvas.setWidth(canvasWidth);
+			canvas.setHeight(height);
+			dirty = true;
+		}
+		canvas.relocate(x, y);
+		scrollBar.resizeRelocate(x + canvasWidth, y, barWidth, height);
+		scrollBar.setMax(Math.max(0.0, contentHeight - height));
+		scrollBar.setVisibleAmount(height);
+		scrollBar.setBlockIncrement(height);
+		scrollBar.setUnitIncrement(itemHeight);
+		if (dirty) {
+			draw();
+		}
+	}
+
+	private void draw() {
+		dirty = false;
+		GraphicsContext context = canvas.getGraphicsContext2D();
+		double width = canvas.getWidth();
+		double height = canvas.getHeight();
+		context.setFill(RowColor);
+		context.fillRect(0.0, 0.0, width, height);
+		int count = getItemCount();
+		if (count == 0) {
+			return;
+		}
+		SectionedListView<RawItemType> listView = getSkinnable();
+		ObservableList<SectionedListItem<RawItemType>> items = listView.getItems();
+		MultipleSelectionModel<SectionedListItem<RawItemType>> selection = listView.getSelectionModel();
+		double offset = scrollBar.getValue();
+		int first = Math.max(0, (int)Math.floor(offset / itemHeight));
+		int last = Math.min(count - 1, (int)Math.floor((offset + height) / itemHeight));
+		context.setTextBaseline(VPos.BASELINE);
+		for (int index = first; index <= last; index++) {
+			double top = index * itemHeight - offset;
+			SectionedListItem<RawItemType> item = items.get(index);
+			if (item.isHeaderItem()) {
+				drawHeader(context, item.getIndexPath(), top, width);
+			}
+			else {
+				boolean selected = selection.isSelected(index);
+				if (selected) {
+					context.setFill(SelectionColor);
+					context.fillRect(0.0, top, width, itemHeight);
+				}
+				RawItemType rawItem = item.getRawItem();
+				context.setFont(rowFont);
+				context.setFill(selected ? SelectedTextColor : TextColor);
+				context.fillText(rawItem != null ? rawItem.toString() : "", TextPadding, top + TextPadding + baselineOffset);
+			}
+		}
+		if (listView.isPinnedHeaderEnabled()) {
+			drawPinnedHeader(context, first, offset, width);
+		}
+	}
+
+	private void drawPinnedHeader(GraphicsContext context, int first, double offset, double width) {
+		SectionOffsetIndex offsets = getSkinnable().getOffsetIndex();
+		int position = offsets.positionOf(first);
+		if (position < 0 || !offsets.hasHeader(position)) {
+			return;
+		}
+		double top = 0.0;
+		int next = position + 1;
+		if (next < offsets.numberOfSections() && offsets.hasHeader(next)) {
+			top = Math.min(0.0, offsets.getStart(next) * itemHeight - offset - itemHeight);
+		}
+		drawHeader(context, new ImmutableIndexPath(offsets.getSection(position), IndexPath.SectionHeaderRow), top, width);
+	}
+
+	private void drawHeader(GraphicsContext context, IndexPath path, double top, double width) {
+		String title = getSkinnable().getSectionTitle(path);
+		context.setFill(HeaderColor);
+		context.fillRect(0.0, top, width, itemHeight);
+		context.setFont(headerFont);
+		context.setFill(TextColor);
+		context.fillText(title != null ? title : "", TextPadding, top + TextPadding + baselineOffset);
+	}
+
+	private void invalidate(Observable observable) {
+		dirty = true;
+		getSkinnable().requestLayout();
+	}
+
+	private void observeItems(ObservableList<SectionedListItem<RawItemType>> items) {
+		if (observedItems != null) {
+			observedItems.removeListener(itemChangeListener);
+		}
+		observedItems = items;
+		if (observedItems != null) {
+			observedItems.addListener(itemChangeListener);
+		}
+		// the replaced items are not in the order of the anchor any more
+		anchor = NoAnchor;
+		invalidate(null);
+	}
+
+	private int getItemCount() {
+		ObservableList<SectionedListItem<RawItemType>> items = getSkinnable().getItems();
+		return items != null ? items.size() : 0;
+	}
+
+	private void scrollToIndex(int index) {
+		scrollBar.setValue(Math.max(0.0, Math.min(scrollBar.getMax(), index * itemHeight)));
+	}
+
+	private void scrollOnWheel(ScrollEvent event) {
+		scrollBar.setValue(Math.max(0.0, Math.min(scrollBar.getMax(), scrollBar.getValue() - event.getDeltaY())));
+		event.consume();
+	}
+
+	/**
+	 * Select the row under the mouse. The shortcut key toggles the row and
+	 * the shift key selects the rows from the anchor in the multiple
+	 * selection mode, skipping the headers between them.
+	 * 
+	 * @param event the mouse event
+	 */
+	private void selectOnPress(MouseEvent event) {
+		SectionedListView<RawItemType> listView = getSkinnable();
+		listView.requestFocus();
+		int index = indexAt(event.getY());
+		if (index < 0 || listView.getItems().get(index).isHeaderItem()) {
+			return;
+		}
+		MultipleSelectionModel<SectionedListItem<RawItemType>> selection = listView.getSelectionModel();
+		boolean multiple = selection.getSelectionMode() == SelectionMode.MULTIPLE;
+		if (multiple && event.isShiftDown() && anchor != NoAnchor) {
+			selection.clearSelection();
+			selectRows(Math.min(anchor, index), Math.max(anchor, index));
+		}
+		else if (multiple && event.isShortcutDown()) {
+			if (selection.isSelected(index)) {
+				selection.clearSelection(index);
+			}
+			else {
+				selection.select(index);
+			}
+			anchor = index;
+		}
+		else {
+			selection.clearAndSelect(index);
+			anchor = index;
+		}
+		listView.getFocusModel().focus(index);
+		listView.toggleSelectedItem(listView.getItems().get(index));
+	}
+
+	/**
+	 * Select the rows between the given indexes. The headers are not selected.
+	 * 
+	 * @param from the first flat index
+	 * @param to the last flat index, inclusive
+	 */
+	private void selectRows(int from, int to) {
+		ObservableList<SectionedListItem<RawItemType>> items = getSkinnable().getItems();
+		int count = 0;
+		int[] rows = new int[to - from + 1];
+		for (int index = from; index <= to; index++) {
+			if (!items.get(index).isHeaderItem()) {
+				rows[count++] = index;
+			}
+		}
+		if (count > 0) {
+			getSkinnable().getSelectionModel().selectIndices(rows[0], copyOfRange(rows, 1, count));
+		}
+	}
+
+	/**
+	 * Move the selection to the previous or next row with the arrow keys and
+	 * by a page with the page keys. The headers are skipped.
+	 * 
+	 * @param event the key event
+	 */
+	private void moveSelection(KeyEvent event) {
+		SectionedListView<RawItemType> listView = getSkinnable();
+		int count = getItemCount();
+		if (count == 0) {
+			return;
+		}
+		int page = Math.max(1, (int)(canvas.getHeight() / itemHeight) - 1);
+		int current = listView.getSelectionModel().getSelectedIndex();
+		int target;
+		int direction;
+		switch (event.getCode()) {
+		case UP:
+			target = current - 1;
+			direction = -1;
+			break;
+		case DOWN:
+			target = current + 1;
+			direction = 1;
+			break;
+		case PAGE_UP:
+			target = current - page;
+			direction = -1;
+			break;
+		case PAGE_DOWN:
+			target = current + page;
+			direction = 1;
+			break;
+		case HOME:
+			target = 0;
+			direction = 1;
+			break;
+		case END:
+			target = count - 1;
+			direction = -1;
+			break;
+		default:
+			return;
+		}
+		target = Math.max(0, Math.min(count - 1, target));
+		ObservableList<SectionedListItem<RawItemType>> items = listView.getItems();
+		while (target >= 0 && target < count && items.get(target).isHeaderItem()) {
+			target += direction;
+		}
+		if (target < 0 || target >= count) {
+			return;
+		}
+		listView.getSelectionModel().clearAndSelect(target);
+		listView.getFocusModel().focus(target);
+		anchor = target;
+		double top = target * itemHeight;
+		if (top < scrollBar.getValue()) {
+			scrollBar.setValue(top);
+		}
+		else if (top + itemHeight > scrollBar.getValue() + canvas.getHeight()) {
+			scrollBar.setValue(Math.min(scrollBar.getMax(), top + itemHeight - canvas.getHeight()));
+		}
+		event.consume();
+	}
+}
@@ -28,6 +28,8 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.geometry.Insets;
@@ -47,6 +49,8 @@ import javafx.scene.control.ListCell;
 final class SectionedListCellContainer<RawItemType> extends ListCell<SectionedListItem<RawItemType>> {
 
 	private WeakReference<SectionedListView<RawItemType>> listView;
+	private List<CellPreparation<RawItemType, ?>> preparations;
+	private SectionedListGridRowPane gridRowPane;
 
 	/**
 	 * Construct a <code>SectionedListCell</code> instance with the host
@@ -57,11 +61,17 @@ final class SectionedListCellContainer<RawItemType> extends ListCell<SectionedLi
 	public SectionedListCellContainer(SectionedListView<RawItemType> listView) {
 		setListView(listView);
 		setPadding(new Insets(0.0));
+		preparations = new ArrayList<>(1);
 	}
 
 	@Override
 	protected void updateItem(SectionedListItem<RawItemType> item, boolean empty) {
 		super.updateItem(item, empty);
+		cancelPreparation();
+		if (gridRowPane != null) {
+			// return the cells of the previous grid row to the reusable cells
+			gridRowPane.getChildren().clear();
+		}
 		if (empty || getIndex() < 0) {
 			setText(null);
 			setGraphic(null);
@@ -70,11 +80,29 @@ final class SectionedListCellContainer<RawItemType> extends ListCell<SectionedLi
 		if (item.isHeaderItem()) {
 			setGraphic(formattedHeaderView(item));
 		}
+		else if (item instanceof SectionedListGridRow) {
+			setGraphic(formattedGridRow((SectionedListGridRow<RawItemType>)item));
+		}
 		else {
 			setGraphic(formattedCell(item));
 		}
 	}
 
+	@Override
+	protected double computePrefHeight(double width) {
+		SectionedListItem<RawItemType> item = getItem();
+		SectionedListViewSkin<RawItemType> skin = listView.get().getUniformHeightSkin();
+		if (item == null || skin == null) {
+			return super.computePrefHeight(width);
+		}
+		double height = skin.getCellHeight(item.isHeaderItem());
+		if (height < 0.0) {
+			height = super.computePrefHeight(width);
+			skin.setCellHeight(item.isHeaderItem(), height);
+		}
+		return height;
+	}
+
 	public Optional<RawItemType> getRawItem() {
 		return getItem() != null ? of(getItem().getRawItem()) : empty();
 	}
@@ -86,36 +114,80 @@ final class SectionedListCellContainer<RawItemType> extends ListCell<SectionedLi
 	 */
 	private Node formattedHeaderView(SectionedListItem<RawItemType> item) {
 		int section = item.getIndexPath().getSection();
-		String title = listView.get().getSectionedListViewDataSource().getSectionTitle(section);
-		Optional<Node> reusableHeader = listView.get().dequeueReusableHeader();
-		if (reusableHeader.isPresent()) {
-			Node header = reusableHeader.get();
+		String title = listView.get().getSectionTitle(item.getIndexPath());
+		Node header = listView.get().dequeueReusableHeader();
+		if (header != null) {
 			((SectionedListHeader)header).updateTitle(title);
 			return header;
 		}
-		Node header = listView.get().getSectionedListViewCellFactory().getSectionHeader(this, section, title);
+		header = listView.get().getSectionedListViewCellFactory().getSectionHeader(this, section, title);
 		listView.get().enqueueReusableHeader(header);
 		return header;
 	}
 
+	/**
+	 * Get the grid row with the formatted cells of its items.
+	 * 
+	 * @param gridRow the grid row item
+	 */
+	private Node formattedGridRow(SectionedListGridRow<RawItemType> gridRow) {
+		if (gridRowPane == null) {
+			gridRowPane = new SectionedListGridRowPane();
+		}
+		gridRowPane.setColumns(listView.get().getDisplayedGridColumns());
+		for (SectionedListItem<RawItemType> item : listView.get().getGridRowItems(gridRow)) {
+			gridRowPane.getChildren().add(formattedCell(item));
+		}
+		return gridRowPane;
+	}
+
 	/**
 	 * Get the formatted the cell as the row cell.
 	 * 
 	 * @param item the row item
 	 */
-	@SuppressWarnings("unchecked")
 	private Node formattedCell(SectionedListItem<RawItemType> item) {
-		Optional<Node> reusableCell = listView.get().dequeueReusableCell(item.getRawItem());
-		if (reusableCell.isPresent()) {
-			Node cell = reusableCell.get();
-			((SectionedListCell<RawItemType>)cell).updateItem(item.getRawItem());
+		Node cell = listView.get().dequeueReusableCell(item.getRawItem());
+		if (cell != null) {
+			bindItem(cell, item.getRawItem());
 			return cell;
 		}
-		Node cell = listView.get().getSectionedListViewCellFactory().getRowCell(this, item.getIndexPath(), item.getRawItem());
+		cell = listView.get().getSectionedListViewCellFactory().getRowCell(this, item.getIndexPath(), item.getRawItem());
 		listView.get().enqueueReusableCell(item.getRawItem(), cell);
+		if (cell instanceof PreparedSectionedListCell) {
+			bindItem(cell, item.getRawItem());
+		}
 		return cell;
 	}
 
+	/**
+	 * Bind the raw item to the cell. The prepared cell is bound in the
+	 * background with the executor of the host list view.
+	 * 
+	 * @param cell the cell to bind
+	 * @param item the raw item
+	 */
+	@SuppressWarnings("unchecked")
+	private void bindItem(Node cell, RawItemType item) {
+		if (cell instanceof PreparedSectionedListCell) {
+			PreparedSectionedListCell<RawItemType, Object> preparedCell = (PreparedSectionedListCell<RawItemType, Object>)cell;
+			preparations.add(CellPreparation.start(listView.get().getCellPreparationExecutor(), preparedCell, item));
+		}
+		else {
+			((SectionedListCell<RawItemType>)cell).updateItem(item);
+		}
+	}
+
+	/**
+	 * Cancel the preparations of the previous items, if any.
+	 */
+	private void cancelPreparation() {
+		for (CellPreparation<RawItemType, ?> preparation : preparations) {
+			preparation.cancel();
+		}
+		preparations.clear();
+	}
+
 	/**
 	 * Set the host list view.
 	 * 
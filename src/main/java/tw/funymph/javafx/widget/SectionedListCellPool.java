@@ -0,0 +1,324 @@
+/* SectionedListCellPool.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * This class keeps the row cells and the header cells created by the
+ * {@link SectionedListViewCellFactory} that are detached from the list cells,
+ * so that they can be reused instead of being created again. A pool can be
+ * shared by several {@link SectionedListView}s, e.g. the lists in the tabs of
+ * a dashboard, and then a cell detached from one list view can be reused by
+ * another list view with the same cell factory. The cells are kept by their
+ * cell factory and the class of their raw items, and the number of the kept
+ * detached cells is limited by the capacity of the pool: when a cell is
+ * detached while the pool is full, the cell detached the longest time ago is
+ * dropped to make room for it. The cells of a factory that is no longer used
+ * by any list view of the pool in a scene are dropped and no longer kept, so
+ * a long-lived pool does not keep the factories of the discarded list views.
+ * <p>
+ * The pool must be accessed in the JavaFX application thread only.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ * @see SectionedListView#SectionedListView(SectionedListViewDataSource, SectionedListViewCellFactory, SectionedListCellPool)
+ */
+public final class SectionedListCellPool {
+
+	/**
+	 * The default maximum number of the detached cells kept by a pool.
+	 */
+	public static final int DefaultCapacity = 256;
+
+	private static final Object HeaderKey = new Object();
+
+	private final int capacity;
+	private Map<Object, Map<Object, Set<Node>>> detachedCells;
+	private LinkedHashMap<Node, Detacher> detachOrder;
+	private Map<Object, Integer> factoryUses;
+
+	/**
+	 * Construct a <code>SectionedListCellPool</code> instance with the
+	 * default capacity.
+	 */
+	public SectionedListCellPool() {
+		this(DefaultCapacity);
+	}
+
+	/**
+	 * Construct a <code>SectionedListCellPool</code> instance with the
+	 * maximum number of the detached cells to keep.
+	 * 
+	 * @param capacity the maximum number of the detached cells
+	 */
+	public SectionedListCellPool(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+		}
+		this.capacity = capacity;
+		detachedCells = new IdentityHashMap<>();
+		detachOrder = new LinkedHashMap<>();
+		factoryUses = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Get the maximum number of the detached cells kept by the pool.
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Get the number of the detached cells kept by the pool.
+	 * 
+	 * @return the number of the detached cells
+	 */
+	public int size() {
+		return detachOrder.size();
+	}
+
+	/**
+	 * Drop all the detached cells kept by the pool. The cells in use are still
+	 * returned to the pool when they are detached.
+	 */
+	public void clear() {
+		for (Map.Entry<Node, Detacher> entry : detachOrder.entrySet()) {
+			entry.getKey().parentProperty().removeListener(entry.getValue());
+		}
+		detachOrder.clear();
+		detachedCells.clear();
+	}
+
+	/**
+	 * Drop the detached cells created by the factory. The cells of the factory
+	 * in use are still returned to the pool when they are detached if the
+	 * factory is used by a list view of the pool.
+	 * 
+	 * @param factory the cell factory
+	 */
+	public void clear(SectionedListViewCellFactory<?, ?, ?> factory) {
+		Map<Object, Set<Node>> cellsOfFactory = detachedCells.remove(factory);
+		if (cellsOfFactory == null) {
+			return;
+		}
+		for (Set<Node> cells : cellsOfFactory.values()) {
+			for (Node cell : cells) {
+				Detacher detacher = detachOrder.remove(cell);
+				if (detacher != null) {
+					cell.parentProperty().removeListener(detacher);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record that a list view of the pool uses the factory, so that the cells
+	 * of the factory are kept when they are detached.
+	 * 
+	 * @param factory the cell factory
+	 */
+	void retain(SectionedListViewCellFactory<?, ?, ?> factory) {
+		factoryUses.merge(factory, 1, Integer::sum);
+	}
+
+	/**
+	 * Record that a list view of the pool no longer uses the factory. When no
+	 * list view uses the factory, its detached cells are dropped, and its
+	 * cells in use are dropped when they are detached.
+	 * 
+	 * @param factory the cell factory
+	 */
+	void release(SectionedListViewCellFactory<?, ?, ?> factory) {
+		Integer uses = factoryUses.get(factory);
+		if (uses == null) {
+			return;
+		}
+		if (uses > 1) {
+			factoryUses.put(factory, uses - 1);
+		}
+		else {
+			factoryUses.remove(factory);
+			clear(factory);
+		}
+	}
+
+	/**
+	 * Add the row cell created by the factory into the pool. The cell is kept
+	 * in the pool whenever it is detached from its parent.
+	 * 
+	 * @param factory the factory that created the cell
+	 * @param itemClass the class of the raw item of the cell
+	 * @param cell the row cell
+	 */
+	void addRowCell(SectionedListViewCellFactory<?, ?, ?> factory, Class<?> itemClass, Node cell) {
+		cell.parentProperty().addListener(new Detacher(factory, itemClass, cell));
+	}
+
+	/**
+	 * Add the header cell created by the factory into the pool.
+	 * 
+	 * @param factory the factory that created the header cell
+	 * @param header the header cell
+	 */
+	void addHeader(SectionedListViewCellFactory<?, ?, ?> factory, Node header) {
+		header.parentProperty().addListener(new Detacher(factory, HeaderKey, header));
+	}
+
+	/**
+	 * Take a detached row cell out of the pool.
+	 * 
+	 * @param factory the factory of the cell
+	 * @param itemClass the class of the raw item to display
+	 * @return the detached cell, or null if none
+	 */
+	Node takeRowCell(SectionedListViewCellFactory<?, ?, ?> factory, Class<?> itemClass) {
+		return take(factory, itemClass);
+	}
+
+	/**
+	 * Take a detached header cell out of the pool.
+	 * 
+	 * @param factory the factory of the header cell
+	 * @return the detached header cell, or null if none
+	 */
+	Node takeHeader(SectionedListViewCellFactory<?, ?, ?> factory) {
+		return take(factory, HeaderKey);
+	}
+
+	/**
+	 * Get the number of the detached row cells in the pool.
+	 * 
+	 * @param factory the factory of the cells
+	 * @param itemClass the class of the raw items
+	 * @return the number of the detached row cells
+	 */
+	int countRowCells(SectionedListViewCellFactory<?, ?, ?> factory, Class<?> itemClass) {
+		Set<Node> cells = cellsOf(factory, itemClass, false);
+		return cells != null ? cells.size() : 0;
+	}
+
+	/**
+	 * Get the number of the detached header cells in the pool.
+	 * 
+	 * @param factory the factory of the header cells
+	 * @return the number of the detached header cells
+	 */
+	int countHeaders(SectionedListViewCellFactory<?, ?, ?> factory) {
+		Set<Node> cells = cellsOf(factory, HeaderKey, false);
+		return cells != null ? cells.size() : 0;
+	}
+
+	private Node take(Object factory, Object key) {
+		Set<Node> cells = cellsOf(factory, key, false);
+		if (cells == null || cells.isEmpty()) {
+			return null;
+		}
+		Iterator<Node> iterator = cells.iterator();
+		Node cell = iterator.next();
+		iterator.remove();
+		detachOrder.remove(cell);
+		return cell;
+	}
+
+	private void dropOldest() {
+		Iterator<Map.Entry<Node, Detacher>> iterator = detachOrder.entrySet().iterator();
+		Map.Entry<Node, Detacher> oldest = iterator.next();
+		iterator.remove();
+		Detacher detacher = oldest.getValue();
+		cellsOf(detacher.factory, detacher.key, false).remove(oldest.getKey());
+		oldest.getKey().parentProperty().removeListener(detacher);
+	}
+
+	private Set<Node> cellsOf(Object factory, Object key, boolean create) {
+		Map<Object, Set<Node>> cellsOfFactory = detachedCells.get(factory);
+		if (cellsOfFactory == null) {
+			if (!create) {
+				return null;
+			}
+			cellsOfFactory = new HashMap<>();
+			detachedCells.put(factory, cellsOfFactory);
+		}
+		Set<Node> cells = cellsOfFactory.get(key);
+		if (cells == null && create) {
+			cells = new LinkedHashSet<>();
+			cellsOfFactory.put(key, cells);
+		}
+		return cells;
+	}
+
+	/**
+	 * This listener keeps the cell in the pool when it is detached, and takes
+	 * it out of the pool when it is attached again. A cell of a factory that
+	 * is not used any more is dropped and no longer tracked when it is
+	 * detached.
+	 */
+	private final class Detacher implements ChangeListener<Parent> {
+
+		private final Object factory;
+		private final Object key;
+		private final Node cell;
+
+		private Detacher(Object cellFactory, Object cellKey, Node node) {
+			factory = cellFactory;
+			key = cellKey;
+			cell = node;
+		}
+
+		@Override
+		public void changed(ObservableValue<? extends Parent> property, Parent oldParent, Parent newParent) {
+			if (newParent != null) {
+				Set<Node> cells = cellsOf(factory, key, false);
+				if (cells != null && cells.remove(cell)) {
+					detachOrder.remove(cell);
+				}
+			}
+			else if (capacity == 0 || !factoryUses.containsKey(factory)) {
+				property.removeListener(this);
+			}
+			else if (!detachOrder.containsKey(cell)) {
+				if (detachOrder.size() >= capacity) {
+					dropOldest();
+				}
+				cellsOf(factory, key, true).add(cell);
+				detachOrder.put(cell, this);
+			}
+		}
+	}
+}
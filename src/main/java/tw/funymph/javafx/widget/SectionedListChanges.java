@@ -0,0 +1,193 @@
+/* SectionedListChanges.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+
+/**
+ * This internal class records the changes notified by a data source in any
+ * thread, and hands the merged changes to the list view in the JavaFX
+ * application thread at the next pulse. The changes are merged into what
+ * must be loaded again:
+ * <ul>
+ * <li>the sections from the first inserted or removed section;</li>
+ * <li>the rows of a section from its first inserted or removed row;</li>
+ * <li>the other changed rows and sections.</li>
+ * </ul>
+ * The rows before the first inserted or removed row of a section never move,
+ * so the changed rows before it are still valid after the later changes.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListChanges implements SectionedListViewDataSourceListener {
+
+	private boolean scheduled;
+	private int sectionsFrom;
+	private BitSet changedSections;
+	private Map<Integer, Integer> rowsFrom;
+	private Map<Integer, BitSet> changedRows;
+	private final Consumer<SectionedListChanges> consumer;
+
+	/**
+	 * Construct an empty <code>SectionedListChanges</code> instance.
+	 * 
+	 * @param consumer the consumer to apply the merged changes in the JavaFX application thread
+	 */
+	SectionedListChanges(Consumer<SectionedListChanges> consumer) {
+		this.consumer = consumer;
+		reset();
+	}
+
+	private SectionedListChanges(SectionedListChanges changes) {
+		consumer = null;
+		sectionsFrom = changes.sectionsFrom;
+		changedSections = changes.changedSections;
+		rowsFrom = changes.rowsFrom;
+		changedRows = changes.changedRows;
+	}
+
+	private void reset() {
+		sectionsFrom = Integer.MAX_VALUE;
+		changedSections = new BitSet();
+		rowsFrom = new HashMap<>();
+		changedRows = new HashMap<>();
+	}
+
+	@Override
+	public synchronized void rowsChanged(int section, int fromRow, int toRow) {
+		if (section < sectionsFrom && fromRow < toRow) {
+			changedRows.computeIfAbsent(section, key -> new BitSet()).set(fromRow, toRow);
+			schedule();
+		}
+	}
+
+	@Override
+	public synchronized void rowsInserted(int section, int fromRow, int toRow) {
+		moveRows(section, fromRow);
+	}
+
+	@Override
+	public synchronized void rowsRemoved(int section, int fromRow, int toRow) {
+		moveRows(section, fromRow);
+	}
+
+	@Override
+	public synchronized void sectionsChanged(int fromSection, int toSection) {
+		if (fromSection < toSection) {
+			changedSections.set(fromSection, toSection);
+			schedule();
+		}
+	}
+
+	@Override
+	public synchronized void sectionsInserted(int fromSection, int toSection) {
+		moveSections(fromSection);
+	}
+
+	@Override
+	public synchronized void sectionsRemoved(int fromSection, int toSection) {
+		moveSections(fromSection);
+	}
+
+	@Override
+	public synchronized void dataChanged() {
+		moveSections(0);
+	}
+
+	/**
+	 * Get the first section that must be loaded again with all its rows.
+	 * 
+	 * @return the section index, or {@link Integer#MAX_VALUE} if no section was inserted or removed
+	 */
+	int getSectionsFrom() {
+		return sectionsFrom;
+	}
+
+	/**
+	 * Get whether the title or the header flag of the section may be changed.
+	 * 
+	 * @param section the section index
+	 * @return true if the section is changed
+	 */
+	boolean isSectionChanged(int section) {
+		return section >= sectionsFrom || changedSections.get(section);
+	}
+
+	/**
+	 * Get the first row of the section from which all rows must be loaded again.
+	 * 
+	 * @param section the section index
+	 * @return the row index, or {@link Integer#MAX_VALUE} if no row was inserted or removed
+	 */
+	int getRowsFrom(int section) {
+		return section >= sectionsFrom ? 0 : rowsFrom.getOrDefault(section, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Get the changed rows of the section before {@link #getRowsFrom(int)}.
+	 * 
+	 * @param section the section index
+	 * @return the changed rows, or null if no row is changed
+	 */
+	BitSet getChangedRows(int section) {
+		return changedRows.get(section);
+	}
+
+	private void moveRows(int section, int fromRow) {
+		if (section < sectionsFrom) {
+			rowsFrom.merge(section, fromRow, Math::min);
+			schedule();
+		}
+	}
+
+	private void moveSections(int fromSection) {
+		sectionsFrom = Math.min(sectionsFrom, fromSection);
+		schedule();
+	}
+
+	private void schedule() {
+		if (!scheduled) {
+			scheduled = true;
+			Platform.runLater(this::flush);
+		}
+	}
+
+	private void flush() {
+		SectionedListChanges changes;
+		synchronized (this) {
+			changes = new SectionedListChanges(this);
+			scheduled = false;
+			reset();
+		}
+		consumer.accept(changes);
+	}
+}
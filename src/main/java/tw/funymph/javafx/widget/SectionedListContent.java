@@ -0,0 +1,773 @@
+/* SectionedListContent.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static tw.funymph.javafx.widget.ImmutableSectionedListItem.getItemForRow;
+import static tw.funymph.javafx.widget.ImmutableSectionedListItem.getItemForSectionHeader;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.parallelSort;
+import static java.util.Arrays.sort;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This internal class keeps the items loaded from the {@link SectionedListViewDataSource}
+ * section by section. The list items are created once per reload, and the
+ * items displayed by the {@link SectionedListView} are flattened from them
+ * with the rows selected by the filter, so that changing the filter does
+ * not load the items from the data source again.
+ * <p>
+ * A paged content only loads the section headers and the number of rows of
+ * each section at first. The rows of a section are loaded when they are
+ * accessed, and the resident sections can be evicted to keep the number of
+ * the loaded rows under a budget.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListContent<RawItemType> {
+
+	/**
+	 * The number of the rows from which a section is sorted in parallel.
+	 */
+	static final int ParallelSortThreshold = 8192;
+
+	/**
+	 * The number of the rows from which a {@link ConcurrentSectionedListViewDataSource}
+	 * is loaded in parallel.
+	 */
+	static final int ParallelLoadThreshold = 8192;
+
+	private static final int SequentialLoadRows = 1024;
+
+	private int[] rowOffsets;
+	private SectionedListItem<RawItemType>[] headers;
+	private SectionedListItem<RawItemType>[][] rows;
+
+	private int residentRows;
+	private int loadingSection;
+	private int loadingRow;
+	private int loadedRows;
+	private boolean truncated;
+	private SectionedListItemIndex<RawItemType> itemIndex;
+	private SectionedListViewDataSource<RawItemType> dataSource;
+	private Map<Integer, SectionedListItem<RawItemType>[]> residentSections;
+
+	/**
+	 * Load all the items from the data source.
+	 * 
+	 * @param dataSource the data source; can be null
+	 * @return the loaded content
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> load(SectionedListViewDataSource<RawItemType> dataSource) {
+		return load(dataSource, false);
+	}
+
+	/**
+	 * Load the items from the data source. If paged, only the section headers
+	 * and the number of the rows are loaded, and the rows of a section are
+	 * loaded when they are accessed at the first time. The rows of a large
+	 * {@link ConcurrentSectionedListViewDataSource} are loaded in parallel
+	 * with fork-join, and each section is filled into its own array.
+	 * 
+	 * @param dataSource the data source; can be null
+	 * @param paged true to load the rows on demand
+	 * @return the loaded content
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> load(SectionedListViewDataSource<RawItemType> dataSource, boolean paged) {
+		int sections = dataSource != null ? dataSource.numberOfSections() : 0;
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		if (paged) {
+			content.dataSource = dataSource;
+			content.residentSections = new LinkedHashMap<>(16, 0.75f, true);
+		}
+		for (int section = 0; section < sections; section++) {
+			if (dataSource.hasSectionHeader(section)) {
+				content.headers[section] = getItemForSectionHeader(section);
+			}
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + dataSource.numberOfRowsInSection(section);
+		}
+		if (paged) {
+			return content;
+		}
+		if (dataSource instanceof ConcurrentSectionedListViewDataSource && content.size() >= ParallelLoadThreshold) {
+			for (int section = 0; section < sections; section++) {
+				content.rows[section] = newItemArray(content.numberOfRows(section));
+			}
+			ForkJoinPool.commonPool().invoke(content.new RowRangeLoadTask(dataSource, 0, content.size()));
+		}
+		else {
+			for (int section = 0; section < sections; section++) {
+				content.rows[section] = loadRows(dataSource, section, content.numberOfRows(section));
+			}
+		}
+		return content;
+	}
+
+	/**
+	 * Load the items from the snapshot. The items of the previous content that
+	 * was loaded from the previous snapshot are reused if their sections and
+	 * raw items are not changed, and the rows are compared block by block
+	 * through the arrays shared by the two snapshots, so that only the changed
+	 * rows are visited.
+	 * 
+	 * @param previous the content loaded from the previous snapshot; must not be paged or truncated
+	 * @param previousSnapshot the previous snapshot
+	 * @param snapshot the new snapshot
+	 * @return the loaded content
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> update(SectionedListContent<RawItemType> previous, SectionedListSnapshot<RawItemType> previousSnapshot, SectionedListSnapshot<RawItemType> snapshot) {
+		int sections = snapshot.numberOfSections();
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		for (int section = 0; section < sections; section++) {
+			boolean comparable = section < previous.numberOfSections();
+			if (snapshot.hasSectionHeader(section)) {
+				// the header item is kept only if its section still shows the same title
+				boolean sameHeader = comparable && previous.headers[section] != null && Objects.equals(snapshot.getSectionTitle(section), previousSnapshot.getSectionTitle(section));
+				content.headers[section] = sameHeader ? previous.headers[section] : getItemForSectionHeader(section);
+			}
+			PersistentVector<RawItemType> rows = snapshot.getSection(section).getRows();
+			if (!comparable) {
+				content.rows[section] = loadRows(snapshot, section, rows.size());
+			}
+			else {
+				PersistentVector<RawItemType> previousRows = previousSnapshot.getSection(section).getRows();
+				content.rows[section] = rows == previousRows ? previous.rows[section] : updateRows(section, previous.rows[section], previousRows, rows);
+			}
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + rows.size();
+		}
+		content.inheritItemIndex(previous);
+		return content;
+	}
+
+	/**
+	 * Prepare the content to be loaded incrementally by {@link #loadNext(SectionedListViewDataSource, long, List, SectionOffsetIndex)}.
+	 * Only the section headers and the number of the rows are loaded here.
+	 * 
+	 * @param dataSource the data source; can be null
+	 * @return the content without any row loaded
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> prepare(SectionedListViewDataSource<RawItemType> dataSource) {
+		int sections = dataSource != null ? dataSource.numberOfSections() : 0;
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		for (int section = 0; section < sections; section++) {
+			if (dataSource.hasSectionHeader(section)) {
+				content.headers[section] = getItemForSectionHeader(section);
+			}
+			int count = dataSource.numberOfRowsInSection(section);
+			content.rows[section] = newItemArray(count);
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + count;
+		}
+		content.loadingRow = -1;
+		return content;
+	}
+
+	/**
+	 * Load the next rows of a prepared content in order until the deadline,
+	 * and append the headers of the entered sections and the loaded rows to
+	 * the items and the offsets.
+	 * 
+	 * @param dataSource the data source that the content is prepared from
+	 * @param deadline the deadline in {@link System#nanoTime()}
+	 * @param items the list to append the items to
+	 * @param offsets the offsets to append the sections and rows to
+	 * @return true if all the rows are loaded
+	 */
+	boolean loadNext(SectionedListViewDataSource<RawItemType> dataSource, long deadline, List<SectionedListItem<RawItemType>> items, SectionOffsetIndex offsets) {
+		int sections = numberOfSections();
+		while (loadingSection < sections) {
+			int section = loadingSection;
+			if (loadingRow < 0) {
+				boolean header = headers[section] != null;
+				if (header) {
+					items.add(headers[section]);
+				}
+				offsets.append(section, header, 0);
+				loadingRow = 0;
+			}
+			SectionedListItem<RawItemType>[] sectionRows = rows[section];
+			int start = loadingRow;
+			while (loadingRow < sectionRows.length) {
+				SectionedListItem<RawItemType> item = getItemForRow(section, loadingRow, dataSource.getItem(new ImmutableIndexPath(section, loadingRow)));
+				sectionRows[loadingRow++] = item;
+				items.add(item);
+				if (itemIndex != null) {
+					itemIndex.add(item);
+				}
+				if ((loadingRow & 63) == 0 && System.nanoTime() >= deadline) {
+					break;
+				}
+			}
+			offsets.appendRows(loadingRow - start);
+			loadedRows += loadingRow - start;
+			if (loadingRow < sectionRows.length) {
+				return false;
+			}
+			loadingSection++;
+			loadingRow = -1;
+			if (System.nanoTime() >= deadline) {
+				return loadingSection == sections;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the ratio of the loaded rows of a prepared content.
+	 * 
+	 * @return the ratio from 0.0 to 1.0
+	 */
+	double loadedRatio() {
+		return size() > 0 ? (double)loadedRows / size() : 1.0;
+	}
+
+	/**
+	 * Get the content of the sections and the rows that are already loaded by
+	 * {@link #loadNext(SectionedListViewDataSource, long, List, SectionOffsetIndex)}.
+	 * The sections that are not entered yet are excluded, and the truncated
+	 * content is marked by {@link #isTruncated()}.
+	 * 
+	 * @return the loaded content
+	 */
+	SectionedListContent<RawItemType> truncate() {
+		int sections = loadingRow < 0 ? loadingSection : loadingSection + 1;
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		for (int section = 0; section < sections; section++) {
+			content.headers[section] = headers[section];
+			content.rows[section] = section < loadingSection ? rows[section] : copyOf(rows[section], loadingRow);
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + content.rows[section].length;
+		}
+		content.itemIndex = itemIndex;
+		content.truncated = true;
+		return content;
+	}
+
+	/**
+	 * Get whether the content is truncated from a cancelled incremental reload,
+	 * i.e. it does not hold all the rows of its data source.
+	 * 
+	 * @return true if the content is truncated
+	 */
+	boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Load the changed sections and rows from the data source. The items of
+	 * the previous content are reused for the sections and the rows that are
+	 * not changed.
+	 * 
+	 * @param previous the content loaded from the data source before the changes; must not be paged
+	 * @param dataSource the changed data source
+	 * @param changes the merged changes of the data source
+	 * @return the loaded content
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> refresh(SectionedListContent<RawItemType> previous, SectionedListViewDataSource<RawItemType> dataSource, SectionedListChanges changes) {
+		int sections = dataSource.numberOfSections();
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		for (int section = 0; section < sections; section++) {
+			boolean stable = section < previous.numberOfSections() && section < changes.getSectionsFrom();
+			if (dataSource.hasSectionHeader(section)) {
+				boolean reusable = stable && !changes.isSectionChanged(section) && previous.headers[section] != null;
+				content.headers[section] = reusable ? previous.headers[section] : getItemForSectionHeader(section);
+			}
+			int count = dataSource.numberOfRowsInSection(section);
+			if (!stable) {
+				content.rows[section] = loadRows(dataSource, section, count);
+			}
+			else {
+				SectionedListItem<RawItemType>[] previousItems = previous.rows[section];
+				int kept = Math.min(Math.min(changes.getRowsFrom(section), count), previousItems.length);
+				BitSet changed = changes.getChangedRows(section);
+				if (kept == count && kept == previousItems.length && changed == null) {
+					content.rows[section] = previousItems;
+				}
+				else {
+					SectionedListItem<RawItemType>[] items = copyOf(previousItems, count);
+					for (int row = changed != null ? changed.nextSetBit(0) : -1; row >= 0 && row < kept; row = changed.nextSetBit(row + 1)) {
+						items[row] = getItemForRow(section, row, dataSource.getItem(new ImmutableIndexPath(section, row)));
+					}
+					for (int row = kept; row < count; row++) {
+						items[row] = getItemForRow(section, row, dataSource.getItem(new ImmutableIndexPath(section, row)));
+					}
+					content.rows[section] = items;
+				}
+			}
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + count;
+		}
+		content.inheritItemIndex(previous);
+		return content;
+	}
+
+	/**
+	 * Move a row of the previous content to another index path. Only the rows
+	 * between the source and the target are numbered again, and the other
+	 * sections share their items with the previous content.
+	 * 
+	 * @param previous the content before the move; must not be paged
+	 * @param from the index path of the row before the move
+	 * @param to the index path of the row after the move
+	 * @return the content after the move
+	 */
+	static <RawItemType> SectionedListContent<RawItemType> move(SectionedListContent<RawItemType> previous, IndexPath from, IndexPath to) {
+		int sections = previous.numberOfSections();
+		SectionedListContent<RawItemType> content = new SectionedListContent<>(sections);
+		System.arraycopy(previous.headers, 0, content.headers, 0, sections);
+		System.arraycopy(previous.rows, 0, content.rows, 0, sections);
+		int source = from.getSection();
+		int target = to.getSection();
+		SectionedListItem<RawItemType>[] sourceItems = previous.rows[source];
+		SectionedListItem<RawItemType> moved = sourceItems[from.getRow()];
+		if (source == target) {
+			SectionedListItem<RawItemType>[] items = sourceItems.clone();
+			if (from.getRow() < to.getRow()) {
+				System.arraycopy(items, from.getRow() + 1, items, from.getRow(), to.getRow() - from.getRow());
+			}
+			else {
+				System.arraycopy(items, to.getRow(), items, to.getRow() + 1, from.getRow() - to.getRow());
+			}
+			items[to.getRow()] = moved;
+			renumberRows(source, items, Math.min(from.getRow(), to.getRow()), Math.max(from.getRow(), to.getRow()) + 1);
+			content.rows[source] = items;
+		}
+		else {
+			SectionedListItem<RawItemType>[] items = newItemArray(sourceItems.length - 1);
+			System.arraycopy(sourceItems, 0, items, 0, from.getRow());
+			System.arraycopy(sourceItems, from.getRow() + 1, items, from.getRow(), items.length - from.getRow());
+			renumberRows(source, items, from.getRow(), items.length);
+			content.rows[source] = items;
+			SectionedListItem<RawItemType>[] targetItems = previous.rows[target];
+			items = newItemArray(targetItems.length + 1);
+			System.arraycopy(targetItems, 0, items, 0, to.getRow());
+			System.arraycopy(targetItems, to.getRow(), items, to.getRow() + 1, targetItems.length - to.getRow());
+			items[to.getRow()] = moved;
+			renumberRows(target, items, to.getRow(), items.length);
+			content.rows[target] = items;
+		}
+		for (int section = 0; section < sections; section++) {
+			content.rowOffsets[section + 1] = content.rowOffsets[section] + content.rows[section].length;
+		}
+		content.inheritItemIndex(previous);
+		return content;
+	}
+
+	private static <RawItemType> void renumberRows(int section, SectionedListItem<RawItemType>[] items, int from, int to) {
+		for (int row = from; row < to; row++) {
+			IndexPath path = items[row].getIndexPath();
+			if (path.getSection() != section || path.getRow() != row) {
+				items[row] = getItemForRow(section, row, items[row].getRawItem());
+			}
+		}
+	}
+
+	private static <RawItemType> SectionedListItem<RawItemType>[] updateRows(int section, SectionedListItem<RawItemType>[] previousItems, PersistentVector<RawItemType> previousRows, PersistentVector<RawItemType> rows) {
+		int count = rows.size();
+		SectionedListItem<RawItemType>[] items = newItemArray(count);
+		for (int row = 0; row < count; ) {
+			Object[] block = rows.leafOf(row);
+			int end = Math.min(count, row + block.length);
+			if (row < previousRows.size() && previousRows.leafOf(row) == block) {
+				System.arraycopy(previousItems, row, items, row, end - row);
+			}
+			else {
+				for (int index = row; index < end; index++) {
+					RawItemType item = rows.get(index);
+					boolean same = index < previousItems.length && previousItems[index].getRawItem() == item;
+					items[index] = same ? previousItems[index] : getItemForRow(section, index, item);
+				}
+			}
+			row = end;
+		}
+		return items;
+	}
+
+	private static <RawItemType> SectionedListItem<RawItemType>[] loadRows(SectionedListViewDataSource<RawItemType> dataSource, int section, int count) {
+		SectionedListItem<RawItemType>[] items = newItemArray(count);
+		for (int row = 0; row < count; row++) {
+			IndexPath path = new ImmutableIndexPath(section, row);
+			items[row] = getItemForRow(section, row, dataSource.getItem(path));
+		}
+		return items;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <RawItemType> SectionedListItem<RawItemType>[] newItemArray(int length) {
+		return (SectionedListItem<RawItemType>[])new SectionedListItem<?>[length];
+	}
+
+	/**
+	 * Construct an empty <code>SectionedListContent</code> with the number
+	 * of the sections. Please use {@link #load(SectionedListViewDataSource)}
+	 * to load the content from a data source.
+	 * 
+	 * @param sections the number of the sections
+	 */
+	@SuppressWarnings("unchecked")
+	private SectionedListContent(int sections) {
+		rowOffsets = new int[sections + 1];
+		headers = newItemArray(sections);
+		rows = (SectionedListItem<RawItemType>[][])new SectionedListItem<?>[sections][];
+	}
+
+	/**
+	 * Get the section that contains the row at the flat row index, which
+	 * does not count the headers.
+	 * 
+	 * @param flatRow the flat row index
+	 * @return the section index
+	 */
+	private int sectionOfRow(int flatRow) {
+		int low = 0;
+		int high = numberOfSections() - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (rowOffsets[middle] <= flatRow) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Get the number of the sections.
+	 * 
+	 * @return the number of the sections
+	 */
+	int numberOfSections() {
+		return headers.length;
+	}
+
+	/**
+	 * Get the number of the rows in the given section.
+	 * 
+	 * @param section the section index
+	 * @return the number of the rows
+	 */
+	int numberOfRows(int section) {
+		return rowOffsets[section + 1] - rowOffsets[section];
+	}
+
+	/**
+	 * Get whether the rows are loaded on demand.
+	 * 
+	 * @return true if the content is paged
+	 */
+	boolean isPaged() {
+		return residentSections != null;
+	}
+
+	/**
+	 * Get the number of the rows in the resident sections of a paged content.
+	 * 
+	 * @return the number of the loaded rows
+	 */
+	int residentRows() {
+		return residentRows;
+	}
+
+	/**
+	 * Get whether the rows of the section are loaded.
+	 * 
+	 * @param section the section index
+	 * @return true if the rows are loaded
+	 */
+	boolean isResident(int section) {
+		return rows[section] != null;
+	}
+
+	/**
+	 * Load the rows of the section if they are not loaded yet. For a paged
+	 * content, the section becomes the most recently used one.
+	 * 
+	 * @param section the section index
+	 * @return the rows of the section
+	 */
+	SectionedListItem<RawItemType>[] loadSection(int section) {
+		if (residentSections == null) {
+			return rows[section];
+		}
+		SectionedListItem<RawItemType>[] items = residentSections.get(section);
+		if (items == null) {
+			items = loadRows(dataSource, section, numberOfRows(section));
+			residentSections.put(section, items);
+			rows[section] = items;
+			residentRows += items.length;
+			if (itemIndex != null) {
+				itemIndex.addAll(items);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Evict the least recently used sections of a paged content until the
+	 * number of the loaded rows is not greater than the budget. The sections
+	 * to keep are never evicted even if the budget is exceeded.
+	 * 
+	 * @param keep the sections to keep, indexed by the section index
+	 * @param budget the maximum number of the loaded rows
+	 */
+	void evictSections(boolean[] keep, int budget) {
+		if (residentSections == null) {
+			return;
+		}
+		Iterator<Map.Entry<Integer, SectionedListItem<RawItemType>[]>> iterator = residentSections.entrySet().iterator();
+		while (residentRows > budget && iterator.hasNext()) {
+			Map.Entry<Integer, SectionedListItem<RawItemType>[]> entry = iterator.next();
+			int section = entry.getKey();
+			if (!keep[section]) {
+				iterator.remove();
+				rows[section] = null;
+				residentRows -= entry.getValue().length;
+				if (itemIndex != null) {
+					itemIndex.removeAll(entry.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the index of the raw items.
+	 * 
+	 * @return the item index, or null if the raw items are not indexed
+	 */
+	SectionedListItemIndex<RawItemType> getItemIndex() {
+		return itemIndex;
+	}
+
+	/**
+	 * Set the index of the raw items, and add the loaded rows into it. The
+	 * index is kept up to date while the rows are loaded, evicted or replaced.
+	 * 
+	 * @param index the new item index; null to stop indexing
+	 */
+	void setItemIndex(SectionedListItemIndex<RawItemType> index) {
+		itemIndex = index;
+		if (itemIndex != null) {
+			for (SectionedListItem<RawItemType>[] items : rows) {
+				if (items != null) {
+					itemIndex.addAll(items);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Take over the item index of the previous content, and update it with the
+	 * rows that are replaced. The sections sharing the row arrays with the
+	 * previous content are skipped.
+	 * 
+	 * @param previous the previous content
+	 */
+	private void inheritItemIndex(SectionedListContent<RawItemType> previous) {
+		itemIndex = previous.itemIndex;
+		if (itemIndex == null) {
+			return;
+		}
+		int sections = Math.max(numberOfSections(), previous.numberOfSections());
+		for (int section = 0; section < sections; section++) {
+			SectionedListItem<RawItemType>[] previousItems = section < previous.numberOfSections() ? previous.rows[section] : null;
+			SectionedListItem<RawItemType>[] items = section < numberOfSections() ? rows[section] : null;
+			if (previousItems == items) {
+				continue;
+			}
+			int count = Math.max(previousItems != null ? previousItems.length : 0, items != null ? items.length : 0);
+			for (int row = 0; row < count; row++) {
+				SectionedListItem<RawItemType> previousItem = previousItems != null && row < previousItems.length ? previousItems[row] : null;
+				SectionedListItem<RawItemType> item = items != null && row < items.length ? items[row] : null;
+				itemIndex.replace(previousItem, item);
+			}
+		}
+	}
+
+	/**
+	 * Get the header item of the section.
+	 * 
+	 * @param section the section index
+	 * @return the header item, or null if the section has no header
+	 */
+	SectionedListItem<RawItemType> getHeader(int section) {
+		return headers[section];
+	}
+
+	/**
+	 * Get the item of the row at the given section and row. The rows of the
+	 * section are loaded if they are not loaded yet.
+	 * 
+	 * @param section the section index
+	 * @param row the row index
+	 * @return the item of the row
+	 */
+	SectionedListItem<RawItemType> getRow(int section, int row) {
+		SectionedListItem<RawItemType>[] items = rows[section];
+		return (items != null ? items : loadSection(section))[row];
+	}
+
+	/**
+	 * Get the total number of the rows before the given section.
+	 * 
+	 * @param section the section index; can be {@link #numberOfSections()}
+	 * @return the number of the rows before the section
+	 */
+	int rowOffset(int section) {
+		return rowOffsets[section];
+	}
+
+	/**
+	 * Get the total number of the rows in all sections.
+	 * 
+	 * @return the number of the rows
+	 */
+	int size() {
+		return rowOffsets[rowOffsets.length - 1];
+	}
+
+	/**
+	 * Get the raw item of the row at the given section and row.
+	 * 
+	 * @param section the section index
+	 * @param row the row index
+	 * @return the raw item
+	 */
+	RawItemType getRawItem(int section, int row) {
+		return getRow(section, row).getRawItem();
+	}
+
+	/**
+	 * Sort the given rows of the section by their raw items. The large sections
+	 * are sorted in parallel. The result is the permutation from the sorted row
+	 * to the row in the data source.
+	 * 
+	 * @param section the section index
+	 * @param rowMap the rows to sort; null for all rows in the section
+	 * @param comparator the comparator of the raw items
+	 * @return the sorted rows
+	 */
+	int[] sortRows(int section, int[] rowMap, Comparator<? super RawItemType> comparator) {
+		int count = rowMap != null ? rowMap.length : numberOfRows(section);
+		SectionedListItem<RawItemType>[] sectionRows = loadSection(section);
+		SectionedListItem<RawItemType>[] items = newItemArray(count);
+		for (int row = 0; row < count; row++) {
+			items[row] = sectionRows[rowMap != null ? rowMap[row] : row];
+		}
+		Comparator<SectionedListItem<RawItemType>> byRawItem = (left, right) -> comparator.compare(left.getRawItem(), right.getRawItem());
+		if (count >= ParallelSortThreshold) {
+			parallelSort(items, byRawItem);
+		}
+		else {
+			sort(items, byRawItem);
+		}
+		int[] permutation = new int[count];
+		for (int row = 0; row < count; row++) {
+			permutation[row] = items[row].getIndexPath().getRow();
+		}
+		return permutation;
+	}
+
+	/**
+	 * Flatten the items into the given list. If the row maps are given, only
+	 * the rows in the map of each section are added in the order of the map.
+	 * If the list is not given, only the offsets are computed, so that the
+	 * rows of a paged content are not loaded.
+	 * 
+	 * @param sectionOrder the order of the sections; null for the order in the data source
+	 * @param rowMaps the rows to display in each section; null for all rows
+	 * @param hideEmptySections true to hide the sections without any row
+	 * @param items the list to add the items into; can be null
+	 * @return the offsets of the displayed sections
+	 */
+	SectionOffsetIndex flatten(int[] sectionOrder, int[][] rowMaps, boolean hideEmptySections, List<SectionedListItem<RawItemType>> items) {
+		int sections = numberOfSections();
+		SectionOffsetIndex offsets = new SectionOffsetIndex(sections);
+		for (int position = 0; position < sections; position++) {
+			int section = sectionOrder != null ? sectionOrder[position] : position;
+			int[] rowMap = rowMaps != null ? rowMaps[section] : null;
+			int count = rowMap != null ? rowMap.length : numberOfRows(section);
+			if (hideEmptySections && count == 0) {
+				continue;
+			}
+			boolean header = headers[section] != null;
+			if (items != null) {
+				if (header) {
+					items.add(headers[section]);
+				}
+				for (int row = 0; row < count; row++) {
+					items.add(rows[section][rowMap != null ? rowMap[row] : row]);
+				}
+			}
+			offsets.append(section, header, count);
+		}
+		return offsets;
+	}
+
+	/**
+	 * This task loads a range of the rows across the sections into their
+	 * arrays, and splits the range while it still has many rows.
+	 */
+	private class RowRangeLoadTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final SectionedListViewDataSource<RawItemType> dataSource;
+
+		private RowRangeLoadTask(SectionedListViewDataSource<RawItemType> source, int fromRow, int toRow) {
+			dataSource = source;
+			from = fromRow;
+			to = toRow;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > SequentialLoadRows) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new RowRangeLoadTask(dataSource, from, middle), new RowRangeLoadTask(dataSource, middle, to));
+				return;
+			}
+			int section = sectionOfRow(from);
+			for (int flatRow = from; flatRow < to; flatRow++) {
+				while (flatRow >= rowOffsets[section + 1]) {
+					section++;
+				}
+				int row = flatRow - rowOffsets[section];
+				rows[section][row] = getItemForRow(section, row, dataSource.getItem(new ImmutableIndexPath(section, row)));
+			}
+		}
+	}
+}
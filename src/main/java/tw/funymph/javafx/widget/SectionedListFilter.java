@@ -0,0 +1,176 @@
+/* SectionedListFilter.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.copyOf;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.application.Platform;
+
+/**
+ * This internal class runs a predicate over the rows of a {@link SectionedListContent}
+ * and keeps the section structure: the result is the matched rows of each
+ * section. A filter can be narrowed from a previous result, e.g. when the
+ * user types more characters of the search text, so that only the rows
+ * matched before are tested again. Large contents are filtered in parallel
+ * across sections with fork-join, and a running filter can be cancelled.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListFilter<RawItemType> {
+
+	/**
+	 * The number of the rows from which the filter runs in parallel.
+	 */
+	static final int ParallelThreshold = 10000;
+
+	private static final int SequentialRows = 4096;
+	private static final int CancellationCheckMask = 1023;
+
+	private int[][] result;
+	private int[][] candidates;
+	private volatile boolean cancelled;
+	private Predicate<? super RawItemType> predicate;
+	private SectionedListContent<RawItemType> content;
+
+	/**
+	 * Construct a <code>SectionedListFilter</code> instance.
+	 * 
+	 * @param content the content to filter
+	 * @param predicate the predicate that the displayed raw items match
+	 * @param candidates the matched rows of a previous filter that this filter
+	 *        narrows; null to test all rows
+	 */
+	SectionedListFilter(SectionedListContent<RawItemType> content, Predicate<? super RawItemType> predicate, int[][] candidates) {
+		this.content = content;
+		this.predicate = predicate;
+		this.candidates = candidates;
+		result = new int[content.numberOfSections()][];
+	}
+
+	/**
+	 * Run the filter in the current thread. Large contents are filtered in
+	 * parallel and the current thread waits for the result, except the paged
+	 * contents that load their rows in the current thread.
+	 * 
+	 * @return the matched rows of each section, or null if cancelled
+	 */
+	int[][] filter() {
+		int sections = content.numberOfSections();
+		if (content.size() >= ParallelThreshold && !content.isPaged()) {
+			ForkJoinPool.commonPool().invoke(new SectionRangeTask(0, sections));
+		}
+		else {
+			filterSections(0, sections);
+		}
+		return cancelled ? null : result;
+	}
+
+	/**
+	 * Run the filter in the background and deliver the result on the JavaFX
+	 * application thread if the filter is not cancelled.
+	 * 
+	 * @param callback the callback to receive the result
+	 */
+	void filterInBackground(Consumer<int[][]> callback) {
+		ForkJoinPool.commonPool().execute(() -> {
+			int[][] rows = filter();
+			if (rows != null) {
+				Platform.runLater(() -> {
+					if (!cancelled) {
+						callback.accept(rows);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Cancel the filter. The result of a cancelled filter is never delivered.
+	 */
+	void cancel() {
+		cancelled = true;
+	}
+
+	private void filterSections(int from, int to) {
+		for (int section = from; section < to && !cancelled; section++) {
+			filterSection(section);
+		}
+	}
+
+	private void filterSection(int section) {
+		int[] candidate = candidates != null ? candidates[section] : null;
+		int count = candidate != null ? candidate.length : content.numberOfRows(section);
+		int[] matches = new int[count];
+		int found = 0;
+		for (int index = 0; index < count; index++) {
+			if ((index & CancellationCheckMask) == 0 && cancelled) {
+				return;
+			}
+			int row = candidate != null ? candidate[index] : index;
+			if (predicate.test(content.getRawItem(section, row))) {
+				matches[found++] = row;
+			}
+		}
+		result[section] = found < count ? copyOf(matches, found) : matches;
+	}
+
+	/**
+	 * This task filters a range of sections and splits the range while it
+	 * still has many rows.
+	 */
+	private class SectionRangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+
+		private SectionRangeTask(int fromSection, int toSection) {
+			from = fromSection;
+			to = toSection;
+		}
+
+		@Override
+		protected void compute() {
+			if (cancelled) {
+				return;
+			}
+			if (to - from > 1 && content.rowOffset(to) - content.rowOffset(from) > SequentialRows) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SectionRangeTask(from, middle), new SectionRangeTask(middle, to));
+			}
+			else {
+				filterSections(from, to);
+			}
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/* SectionedListGridRow.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This class provides the list item of a row of the grid in a section laid
+ * out as a grid. The items in the grid row are not kept by the grid row, but
+ * resolved by {@link SectionedListView#getGridRowItems(SectionedListGridRow)}
+ * from the section offset index when the grid row is displayed. The index
+ * path of the grid row is the index path of its first item.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListGridRow<RawItemType> implements IndexPath, SectionedListItem<RawItemType> {
+
+	private final int section;
+	private final int row;
+	private final int gridRow;
+
+	/**
+	 * Construct a <code>SectionedListGridRow</code> instance.
+	 * 
+	 * @param sectionIndex the section index
+	 * @param rowIndex the row index of the first item in the data source
+	 * @param gridRowIndex the index of the grid row in the section
+	 */
+	SectionedListGridRow(int sectionIndex, int rowIndex, int gridRowIndex) {
+		section = sectionIndex;
+		row = rowIndex;
+		gridRow = gridRowIndex;
+	}
+
+	/**
+	 * Get the index of the grid row in its section.
+	 * 
+	 * @return the grid row index
+	 */
+	int getGridRow() {
+		return gridRow;
+	}
+
+	@Override
+	public boolean isHeaderItem() {
+		return false;
+	}
+
+	@Override
+	public RawItemType getRawItem() {
+		return null;
+	}
+
+	@Override
+	public IndexPath getIndexPath() {
+		return this;
+	}
+
+	@Override
+	public int getSection() {
+		return section;
+	}
+
+	@Override
+	public int getRow() {
+		return row;
+	}
+}
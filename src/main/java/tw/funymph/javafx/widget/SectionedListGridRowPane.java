@@ -0,0 +1,97 @@
+/* SectionedListGridRowPane.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.List;
+
+import javafx.geometry.HPos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+/**
+ * This internal class lays out the cells of a grid row side by side in the
+ * columns of the same width. The height of the grid row is the highest
+ * preferred height of its cells.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListGridRowPane extends Pane {
+
+	private int columns;
+
+	/**
+	 * Construct a <code>SectionedListGridRowPane</code> with one column.
+	 */
+	SectionedListGridRowPane() {
+		columns = 1;
+	}
+
+	/**
+	 * Set the number of the columns. A grid row may have fewer cells than the
+	 * columns, e.g. the last grid row of a section.
+	 * 
+	 * @param value the number of the columns
+	 */
+	void setColumns(int value) {
+		if (value != columns) {
+			columns = Math.max(1, value);
+			requestLayout();
+		}
+	}
+
+	@Override
+	protected double computePrefWidth(double height) {
+		double width = 0.0;
+		for (Node cell : getManagedChildren()) {
+			width = Math.max(width, cell.prefWidth(-1));
+		}
+		return snappedLeftInset() + width * columns + snappedRightInset();
+	}
+
+	@Override
+	protected double computePrefHeight(double width) {
+		double columnWidth = width >= 0.0 ? (width - snappedLeftInset() - snappedRightInset()) / columns : -1;
+		double height = 0.0;
+		for (Node cell : getManagedChildren()) {
+			height = Math.max(height, cell.prefHeight(columnWidth));
+		}
+		return snappedTopInset() + height + snappedBottomInset();
+	}
+
+	@Override
+	protected void layoutChildren() {
+		List<Node> cells = getManagedChildren();
+		double left = snappedLeftInset();
+		double top = snappedTopInset();
+		double columnWidth = (getWidth() - left - snappedRightInset()) / columns;
+		double height = getHeight() - top - snappedBottomInset();
+		for (int column = 0; column < cells.size(); column++) {
+			layoutInArea(cells.get(column), left + column * columnWidth, top, columnWidth, height, 0.0, null, true, true, HPos.CENTER, VPos.CENTER, true);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/* SectionedListItemIndex.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This internal class maps the keys of the raw items to their list items, so
+ * that the index path of a raw item can be found in constant time. The key
+ * of a raw item is given by a function, and the keys should be unique; if
+ * several items have the same key, only the last added one is found. The
+ * {@link SectionedListContent} keeps the index up to date when its rows are
+ * loaded, evicted or replaced.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class SectionedListItemIndex<RawItemType> {
+
+	private final Function<? super RawItemType, ?> keyFunction;
+	private final Map<Object, SectionedListItem<RawItemType>> items;
+
+	/**
+	 * Construct an empty <code>SectionedListItemIndex</code> instance.
+	 * 
+	 * @param key the function that gets the key of a raw item
+	 */
+	SectionedListItemIndex(Function<? super RawItemType, ?> key) {
+		keyFunction = key;
+		items = new HashMap<>();
+	}
+
+	/**
+	 * Get the list item of the row whose raw item has the same key as the
+	 * given raw item.
+	 * 
+	 * @param rawItem the raw item
+	 * @return the list item, or null if not found
+	 */
+	SectionedListItem<RawItemType> get(RawItemType rawItem) {
+		return rawItem != null ? items.get(keyFunction.apply(rawItem)) : null;
+	}
+
+	/**
+	 * Add the list item of a row.
+	 * 
+	 * @param item the list item; ignored if null
+	 */
+	void add(SectionedListItem<RawItemType> item) {
+		if (item != null && item.getRawItem() != null) {
+			items.put(keyFunction.apply(item.getRawItem()), item);
+		}
+	}
+
+	/**
+	 * Add the list items of the rows.
+	 * 
+	 * @param rows the list items; the null items are ignored
+	 */
+	void addAll(SectionedListItem<RawItemType>[] rows) {
+		for (SectionedListItem<RawItemType> item : rows) {
+			add(item);
+		}
+	}
+
+	/**
+	 * Remove the list item of a row if its key is still mapped to it.
+	 * 
+	 * @param item the list item; ignored if null
+	 */
+	void remove(SectionedListItem<RawItemType> item) {
+		if (item != null && item.getRawItem() != null) {
+			items.remove(keyFunction.apply(item.getRawItem()), item);
+		}
+	}
+
+	/**
+	 * Remove the list items of the rows.
+	 * 
+	 * @param rows the list items; the null items are ignored
+	 */
+	void removeAll(SectionedListItem<RawItemType>[] rows) {
+		for (SectionedListItem<RawItemType> item : rows) {
+			remove(item);
+		}
+	}
+
+	/**
+	 * Replace the list item of a row.
+	 * 
+	 * @param previous the previous list item; can be null
+	 * @param item the new list item; can be null
+	 */
+	void replace(SectionedListItem<RawItemType> previous, SectionedListItem<RawItemType> item) {
+		if (previous != item) {
+			remove(previous);
+			add(item);
+		}
+	}
+}
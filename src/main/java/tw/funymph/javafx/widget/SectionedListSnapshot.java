@@ -0,0 +1,289 @@
+/* SectionedListSnapshot.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This class is an immutable {@link SectionedListViewDataSource}. Each section
+ * keeps its rows in a persistent vector, and the methods that edit a snapshot
+ * return a new snapshot sharing the unchanged sections and most of the
+ * changed rows with the original one. Replacing or appending a row takes
+ * logarithmic time, while inserting or removing a row in the middle copies
+ * the rows of that section only.
+ * <p>
+ * Because a snapshot never changes, it can be built and edited in any
+ * thread, and read by the list view in the JavaFX application thread at
+ * the same time. Please use {@link SectionedListView#setSnapshot(SectionedListSnapshot)}
+ * to publish a snapshot; the list view compares it with the previous
+ * snapshot and only reloads the changed sections and rows.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SectionedListSnapshot<RawItemType> implements ConcurrentSectionedListViewDataSource<RawItemType> {
+
+	private static final SectionedListSnapshot<?> Empty = new SectionedListSnapshot<>(PersistentVector.empty());
+
+	private final PersistentVector<Section<RawItemType>> sections;
+
+	/**
+	 * The immutable section of a snapshot.
+	 */
+	static final class Section<RawItemType> {
+
+		private final String title;
+		private final boolean header;
+		private final PersistentVector<RawItemType> rows;
+
+		private Section(String title, boolean header, PersistentVector<RawItemType> rows) {
+			this.title = title;
+			this.header = header;
+			this.rows = rows;
+		}
+
+		/**
+		 * Get the rows of the section.
+		 * 
+		 * @return the rows
+		 */
+		PersistentVector<RawItemType> getRows() {
+			return rows;
+		}
+	}
+
+	/**
+	 * Get the snapshot without any section.
+	 * 
+	 * @return the empty snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	public static <RawItemType> SectionedListSnapshot<RawItemType> empty() {
+		return (SectionedListSnapshot<RawItemType>)Empty;
+	}
+
+	/**
+	 * Copy the sections and the rows of the data source into a snapshot.
+	 * 
+	 * @param dataSource the data source to copy
+	 * @return the snapshot
+	 */
+	public static <RawItemType> SectionedListSnapshot<RawItemType> of(SectionedListViewDataSource<RawItemType> dataSource) {
+		if (dataSource instanceof SectionedListSnapshot) {
+			return (SectionedListSnapshot<RawItemType>)dataSource;
+		}
+		PersistentVector<Section<RawItemType>> sections = PersistentVector.empty();
+		int count = dataSource.numberOfSections();
+		for (int section = 0; section < count; section++) {
+			PersistentVector<RawItemType> rows = PersistentVector.empty();
+			int rowCount = dataSource.numberOfRowsInSection(section);
+			for (int row = 0; row < rowCount; row++) {
+				rows = rows.add(dataSource.getItem(new ImmutableIndexPath(section, row)));
+			}
+			sections = sections.add(new Section<>(dataSource.getSectionTitle(section), dataSource.hasSectionHeader(section), rows));
+		}
+		return new SectionedListSnapshot<>(sections);
+	}
+
+	private SectionedListSnapshot(PersistentVector<Section<RawItemType>> sections) {
+		this.sections = sections;
+	}
+
+	/**
+	 * Get the snapshot with a new empty section appended.
+	 * 
+	 * @param title the section title
+	 * @param hasHeader true if the section needs a header view
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withSection(String title, boolean hasHeader) {
+		return new SectionedListSnapshot<>(sections.add(new Section<>(title, hasHeader, PersistentVector.empty())));
+	}
+
+	/**
+	 * Get the snapshot with a new empty section inserted at the index. The
+	 * sections after the index are moved backward. The sections before the
+	 * index share their arrays with this snapshot, while the sections after it
+	 * are appended again, so the time is linear in the number of the sections
+	 * after the index.
+	 * 
+	 * @param section the index of the new section
+	 * @param title the section title
+	 * @param hasHeader true if the section needs a header view
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withSectionInserted(int section, String title, boolean hasHeader) {
+		PersistentVector<Section<RawItemType>> result = sections.slice(0, section);
+		result = result.add(new Section<>(title, hasHeader, PersistentVector.empty()));
+		for (int index = section; index < sections.size(); index++) {
+			result = result.add(sections.get(index));
+		}
+		return new SectionedListSnapshot<>(result);
+	}
+
+	/**
+	 * Get the snapshot without the section at the index. Like
+	 * {@link #withSectionInserted(int, String, boolean)}, the time is linear
+	 * in the number of the sections after the index.
+	 * 
+	 * @param section the section index
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withoutSection(int section) {
+		PersistentVector<Section<RawItemType>> result = sections.slice(0, section);
+		for (int index = section + 1; index < sections.size(); index++) {
+			result = result.add(sections.get(index));
+		}
+		return new SectionedListSnapshot<>(result);
+	}
+
+	/**
+	 * Get the snapshot with the title of the section replaced.
+	 * 
+	 * @param section the section index
+	 * @param title the new title
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withSectionTitle(int section, String title) {
+		Section<RawItemType> existing = sections.get(section);
+		return new SectionedListSnapshot<>(sections.set(section, new Section<>(title, existing.header, existing.rows)));
+	}
+
+	/**
+	 * Get the snapshot with the item appended to the section.
+	 * 
+	 * @param section the section index
+	 * @param item the new item
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withRow(int section, RawItemType item) {
+		return withRows(section, sections.get(section).rows.add(item));
+	}
+
+	/**
+	 * Get the snapshot with the item of the row replaced.
+	 * 
+	 * @param section the section index
+	 * @param row the row index
+	 * @param item the new item
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withRow(int section, int row, RawItemType item) {
+		return withRows(section, sections.get(section).rows.set(row, item));
+	}
+
+	/**
+	 * Get the snapshot with the item inserted at the row. The rows after the
+	 * index are moved backward. The rows before the index share their arrays
+	 * with this snapshot, and only the rows after it are appended again, so
+	 * inserting near the end of a large section is cheap while inserting at
+	 * its beginning takes linear time.
+	 * 
+	 * @param section the section index
+	 * @param row the index of the new row
+	 * @param item the new item
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withRowInserted(int section, int row, RawItemType item) {
+		PersistentVector<RawItemType> rows = sections.get(section).rows;
+		PersistentVector<RawItemType> result = rows.slice(0, row).add(item);
+		for (int index = row; index < rows.size(); index++) {
+			result = result.add(rows.get(index));
+		}
+		return withRows(section, result);
+	}
+
+	/**
+	 * Get the snapshot without the row. Like {@link #withRowInserted(int, int, Object)},
+	 * the time is linear in the number of the rows after the removed row.
+	 * 
+	 * @param section the section index
+	 * @param row the row index
+	 * @return the new snapshot
+	 */
+	public SectionedListSnapshot<RawItemType> withoutRow(int section, int row) {
+		PersistentVector<RawItemType> rows = sections.get(section).rows;
+		PersistentVector<RawItemType> result = rows.slice(0, row);
+		for (int index = row + 1; index < rows.size(); index++) {
+			result = result.add(rows.get(index));
+		}
+		return withRows(section, result);
+	}
+
+	private SectionedListSnapshot<RawItemType> withRows(int section, PersistentVector<RawItemType> rows) {
+		Section<RawItemType> existing = sections.get(section);
+		return new SectionedListSnapshot<>(sections.set(section, new Section<>(existing.title, existing.header, rows)));
+	}
+
+	/**
+	 * Get the section at the index. The unchanged sections are shared by the
+	 * snapshots derived from each other.
+	 * 
+	 * @param section the section index
+	 * @return the section
+	 */
+	Section<RawItemType> getSection(int section) {
+		return sections.get(section);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfSections() {
+		return sections.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasSectionHeader(int section) {
+		return sections.get(section).header;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getSectionTitle(int section) {
+		return sections.get(section).title;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int numberOfRowsInSection(int section) {
+		return sections.get(section).rows.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RawItemType getItem(IndexPath path) {
+		return sections.get(path.getSection()).rows.get(path.getRow());
+	}
+}
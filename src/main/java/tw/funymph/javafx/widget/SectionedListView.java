@@ -24,29 +24,42 @@
  */
 package tw.funymph.javafx.widget;
 
+import static java.util.Arrays.copyOfRange;
+import static java.util.Arrays.fill;
+import static java.util.Arrays.sort;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.nullsLast;
 import static java.util.stream.Collectors.toList;
 import static javafx.collections.FXCollections.observableArrayList;
-import static tw.funymph.javafx.widget.ImmutableSectionedListItem.getItemForRow;
-import static tw.funymph.javafx.widget.ImmutableSectionedListItem.getItemForSectionHeader;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-import javafx.beans.value.ObservableValue;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
-import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Skin;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.Dragboard;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.TransferMode;
 import javafx.util.Callback;
 
 /**
@@ -69,21 +82,108 @@ import javafx.util.Callback;
  */
 public class SectionedListView<RawItemType> extends ListView<SectionedListItem<RawItemType>> implements Callback<ListView<SectionedListItem<RawItemType>>, ListCell<SectionedListItem<RawItemType>>> {
 
+	/**
+	 * The default number of the screens around the viewport whose sections are
+	 * loaded in the section paging mode.
+	 */
+	public static final int DefaultPagingScreens = 2;
+
+	/**
+	 * The default maximum number of the loaded rows in the section paging mode.
+	 */
+	public static final int DefaultResidentRowBudget = 20000;
+
+	/**
+	 * The default time in milliseconds spent on loading the rows in each pulse
+	 * by {@link #reloadDataIncrementally()}.
+	 */
+	public static final long DefaultIncrementalReloadBudget = 4;
+
+	/**
+	 * The time in milliseconds spent on building the cells in each pulse by
+	 * {@link #prewarmCells(int, int)}.
+	 */
+	static final long PrewarmBudget = 2;
+
+	/**
+	 * The number of the items from the first visible one in which the samples
+	 * of the cells to prewarm are looked for.
+	 */
+	private static final int PrewarmSampleItems = 1000;
+
 	private String outerCellStyle;
 
+	private SectionOffsetIndex offsetIndex;
+	private SectionedListContent<RawItemType> content;
+
+	private String searchText;
+	private Predicate<RawItemType> filter;
+
+	private int[][] filteredRows;
+	private String filteredSearchText;
+	private Predicate<RawItemType> filteredPredicate;
+	private SectionedListFilter<RawItemType> pendingFilter;
+
+	private Comparator<RawItemType> rowComparator;
+	private Comparator<String> sectionComparator;
+
+	private int[] sectionOrder;
+	private int[][] displayedRows;
+	private int[][] inverseRows;
+	private List<String> sectionIndexTitles;
+	private SectionIndexBar<RawItemType> sectionIndexBar;
+	private PinnedSectionHeader<RawItemType> pinnedHeader;
+
 	private SectionedListViewCellFactory<RawItemType, ?, ?> cellFactory;
 	private SectionedListViewCellFactory<RawItemType, ?, ?> defaultFactory;
 
 	private SectionedListViewDataSource<RawItemType> dataSource;
+	private NestedSectionedListViewDataSource<RawItemType> nestedDataSource;
+	private NestedSectionedListContent<RawItemType> nestedContent;
 	protected ObservableList<SectionedListItem<RawItemType>> selectedItems;
 
-	private List<Node> reusableHeaders;
-	private Map<Class<?>, List<Node>> reusableCells;
+	private boolean uniformCellHeights;
+	private int gridColumns;
+	private double gridCellWidth;
+	private int displayedGridColumns;
+	private Executor cellPreparationExecutor;
+
+	private boolean sectionPaging;
+	private int pagingScreens;
+	private int residentRowBudget;
+	private int scrolledTopPosition;
+	private int scrolledPagingFrom;
+	private int scrolledPagingTo;
+
+	private boolean patchingItems;
+	private boolean rowReordering;
+	private IndexPath draggedRow;
+	private SectionedListChanges dataSourceChanges;
+	private SectionedListViewDataSourceListener dataSourceListener;
+	private Function<? super RawItemType, ?> itemIndexKey;
+	private AtomicReference<SectionedListSnapshot<RawItemType>> pendingSnapshot;
+
+	private long incrementalReloadBudget;
+	private IncrementalReload incrementalReload;
+	private ReadOnlyDoubleWrapper reloadProgress;
+
+	private SectionedListCellPool cellPool;
+	private CellPrewarming cellPrewarming;
 
 	private static boolean isNotBlank(String string) {
 		return string != null && string.trim().length() > 0;
 	}
 
+	private static boolean containsIgnoreCase(String string, String part) {
+		int last = string.length() - part.length();
+		for (int offset = 0; offset <= last; offset++) {
+			if (string.regionMatches(true, offset, part, 0, part.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Construct an empty <code>SectionedListView</code> instance.
 	 */
@@ -100,10 +200,33 @@ public class SectionedListView<RawItemType> extends ListView<SectionedListItem<R
 	 * @param cellFactory the cell factory
 	 */
 	public SectionedListView(SectionedListViewDataSource<RawItemType> dataSource, SectionedListViewCellFactory<RawItemType, ?, ?> cellFactory) {
+		this(dataSource, cellFactory, null);
+	}
+
+	/**
+	 * Construct a <code>SectionedListView</code> instance with the data
+	 * source, the cell factory, and the pool of the detached cells that can
+	 * be shared with the other list views. The list views sharing the pool
+	 * reuse the cells of each other if they share the cell factory too. The
+	 * detached cells of a factory are kept only while a list view in a scene
+	 * uses the factory.
+	 * 
+	 * @param dataSource the item data source
+	 * @param cellFactory the cell factory
+	 * @param pool the pool of the detached cells; null for a pool of this list view only
+	 */
+	public SectionedListView(SectionedListViewDataSource<RawItemType> dataSource, SectionedListViewCellFactory<RawItemType, ?, ?> cellFactory, SectionedListCellPool pool) {
 		defaultFactory = new DefaultSectionedListCellFactory<RawItemType>();
 		selectedItems = observableArrayList();
-		reusableCells = new HashMap<>();
-		reusableHeaders = new ArrayList<>();
+		cellPool = pool != null ? pool : new SectionedListCellPool();
+		offsetIndex = new SectionOffsetIndex();
+		sectionIndexTitles = emptyList();
+		pagingScreens = DefaultPagingScreens;
+		residentRowBudget = DefaultResidentRowBudget;
+		pendingSnapshot = new AtomicReference<>();
+		dataSourceChanges = new SectionedListChanges(this::applyDataSourceChanges);
+		incrementalReloadBudget = DefaultIncrementalReloadBudget;
+		reloadProgress = new ReadOnlyDoubleWrapper(this, "reloadProgress", 1.0);
 
 		setCellFactory(this);
 		setSectionedListViewCellFactory(cellFactory);
@@ -115,32 +238,155 @@ public class SectionedListView<RawItemType> extends ListView<SectionedListItem<R
 				setCellFactory(this);
 			}
 		});
+
+		// the factory is used only while the list view is in a scene, so that a
+		// shared pool does not keep the factories of the discarded list views
+		sceneProperty().addListener((sceneProperty, oldScene, newScene) -> {
+			if (oldScene == null && newScene != null) {
+				cellPool.retain(getSectionedListViewCellFactory());
+			}
+			else if (oldScene != null && newScene == null) {
+				cellPool.release(getSectionedListViewCellFactory());
+			}
+		});
 		
 		setPadding(new Insets(0.0));
 		
-		boundsInLocalProperty().addListener(this::removeDisabledScrollBar);
 	}
 
 	/**
-	 * Reload all items from the data source.
+	 * Reload all items from the data source. If a filter or a search text is
+	 * set, the filter is applied to the reloaded items.
 	 */
 	public void reloadData() {
-		ObservableList<SectionedListItem<RawItemType>> items = observableArrayList();
-		int sections = numberOfSections();
-		for (int section = 0; section < sections; section++) {
-			if (dataSource.hasSectionHeader(section)) {
-				items.add(getItemForSectionHeader(section));
-			}
-			int rows = dataSource.numberOfRowsInSection(section);
-			for (int row = 0; row < rows; row++) {
-				IndexPath path = new ImmutableIndexPath(section, row);
-				items.add(getItemForRow(section, row, dataSource.getItem(path)));
-			}
+		stopIncrementalReload();
+		if (nestedDataSource != null) {
+			reloadNestedData();
+			return;
+		}
+		content = SectionedListContent.load(dataSource, sectionPaging);
+		content.setItemIndex(newItemIndex());
+		filteredRows = null;
+		applyFilter(false, false);
+		reloadSectionIndexTitles();
+		reloadProgress.set(1.0);
+	}
+
+	/**
+	 * Reload all items from the data source in small chunks, one chunk in each
+	 * pulse within {@link #getIncrementalReloadBudget()}, so that the window
+	 * stays responsive while a data source that must be fully enumerated is
+	 * loaded. The loaded items are appended to the list as they finish, and
+	 * the progress is reported by {@link #reloadProgressProperty()}. The
+	 * filter, the search text and the comparators are applied and the selected
+	 * rows are selected again when all the rows are loaded. In the section
+	 * paging mode or with a nested data source, this is the same as
+	 * {@link #reloadData()}.
+	 */
+	public void reloadDataIncrementally() {
+		if (sectionPaging || nestedDataSource != null) {
+			reloadData();
+			return;
+		}
+		Set<RawItemType> selection = new HashSet<>(getSelectedRawItems());
+		stopIncrementalReload();
+		if (pendingFilter != null) {
+			pendingFilter.cancel();
+			pendingFilter = null;
+		}
+		content = SectionedListContent.prepare(dataSource);
+		content.setItemIndex(newItemIndex());
+		filteredRows = null;
+		displayedRows = null;
+		inverseRows = null;
+		sectionOrder = null;
+		offsetIndex = new SectionOffsetIndex(content.numberOfSections());
+		displayedGridColumns = 0;
+		setItems(new ObservableSectionedListItems<>(new ArrayList<>()));
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateSection();
+		}
+		reloadSectionIndexTitles();
+		reloadProgress.set(0.0);
+		incrementalReload = new IncrementalReload(selection);
+		incrementalReload.start();
+	}
+
+	/**
+	 * Cancel the reload started by {@link #reloadDataIncrementally()}. The
+	 * items loaded so far are kept, and the filter, the search text and the
+	 * comparators are applied to them.
+	 */
+	public void cancelIncrementalReload() {
+		if (incrementalReload != null) {
+			IncrementalReload reload = incrementalReload;
+			stopIncrementalReload();
+			content = content.truncate();
+			reload.finish();
+		}
+	}
+
+	/**
+	 * Get whether a reload started by {@link #reloadDataIncrementally()} is
+	 * still running.
+	 * 
+	 * @return true if the items are being reloaded
+	 */
+	public boolean isReloadingIncrementally() {
+		return incrementalReload != null;
+	}
+
+	/**
+	 * Get the progress of the reload started by {@link #reloadDataIncrementally()}
+	 * from 0.0 to 1.0. The progress is 1.0 if no reload is running.
+	 * 
+	 * @return the progress property
+	 */
+	public ReadOnlyDoubleProperty reloadProgressProperty() {
+		return reloadProgress.getReadOnlyProperty();
+	}
+
+	/**
+	 * Get the progress of the reload started by {@link #reloadDataIncrementally()}.
+	 * 
+	 * @return the progress from 0.0 to 1.0
+	 */
+	public double getReloadProgress() {
+		return reloadProgress.get();
+	}
+
+	/**
+	 * Get the time in milliseconds spent on loading the rows in each pulse
+	 * by {@link #reloadDataIncrementally()}.
+	 * 
+	 * @return the time budget in milliseconds
+	 */
+	public long getIncrementalReloadBudget() {
+		return incrementalReloadBudget;
+	}
+
+	/**
+	 * Set the time in milliseconds spent on loading the rows in each pulse
+	 * by {@link #reloadDataIncrementally()}.
+	 * 
+	 * @param budget the time budget in milliseconds; at least 1
+	 */
+	public void setIncrementalReloadBudget(long budget) {
+		incrementalReloadBudget = Math.max(1, budget);
+	}
+
+	private void stopIncrementalReload() {
+		if (incrementalReload != null) {
+			incrementalReload.stop();
+			incrementalReload = null;
 		}
-		setItems(items);
-		recoverSelectionModel();
 	}
 
+	/**
+	 * Get the number of the sections in the data source.
+	 * 
+	 * @return the number of the sections
+	 */
 	public int numberOfSections() {
 		return dataSource != null? dataSource.numberOfSections() : 0;
 	}
@@ -154,6 +400,26 @@ public class SectionedListView<RawItemType> extends ListView<SectionedListItem<R
 		return cellFactory != null ? cellFactory : defaultFactory;
 	}
 
+	/**
+	 * Get the executor that prepares the {@link PreparedSectionedListCell}s in
+	 * the background.
+	 * 
+	 * @return the executor
+	 */
+	public Executor getCellPreparationExecutor() {
+		return cellPreparationExecutor != null ? cellPreparationExecutor : CellPreparation.getDefaultExecutor();
+	}
+
+	/**
+	 * Set the executor that prepares the {@link PreparedSectionedListCell}s in
+	 * the background. If not set, a shared executor with daemon threads is used.
+	 * 
+	 * @param executor the new executor; null for the shared executor
+	 */
+	public void setCellPreparationExecutor(Executor executor) {
+		cellPreparationExecutor = executor;
+	}
+
 	/**
 	 * Get the data source.
 	 * 
@@ -166,173 +432,2012 @@ public class SectionedListView<RawItemType> extends ListView<SectionedListItem<R
 	/**
 	 * Set the new cell factory that generates cells for the section header
 	 * and the row. This will trigger a refresh to recreate cells with the
-	 * new factory.
+	 * new factory. The cells of the previous factory are dropped from the
+	 * cell pool unless another list view sharing the pool still uses it.
+	 * A list view uses its factory only while it is in a scene.
 	 *  
 	 * @param factory the new factory
 	 */
 	public void setSectionedListViewCellFactory(SectionedListViewCellFactory<RawItemType, ?, ?> factory) {
+		SectionedListViewCellFactory<RawItemType, ?, ?> previous = getSectionedListViewCellFactory();
 		cellFactory = factory;
+		if (previous != getSectionedListViewCellFactory() && getScene() != null) {
+			// the cells of the previous factory can never be taken again by this list view
+			cellPool.release(previous);
+			cellPool.retain(getSectionedListViewCellFactory());
+		}
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateHeader();
+		}
+		invalidateCellHeights();
 		reloadData();
 	}
 
 	/**
 	 * Set the data source that provides the required data structure used by
 	 * the sectioned list view. This will trigger a refresh to reload the
-	 * items from the data source into the list view.
+	 * items from the data source into the list view. The list view listens
+	 * to the changes notified by the data source through
+	 * {@link SectionedListViewDataSource#addDataSourceListener(SectionedListViewDataSourceListener)}
+	 * until another data source is set. The listener is added through a weak
+	 * reference, so a long-lived data source does not keep the list view that
+	 * is no longer used. The notifications are merged and
+	 * applied at the next pulse, and only the changed sections and rows are
+	 * loaded again.
 	 * 
 	 * @param value the new data source
 	 */
 	public void setSectionedListViewDataSource(SectionedListViewDataSource<RawItemType> value) {
-		dataSource = value;
+		changeDataSource(value);
 		reloadData();
 	}
 
+	private void changeDataSource(SectionedListViewDataSource<RawItemType> value) {
+		if (dataSource != value) {
+			if (dataSource != null) {
+				dataSource.removeDataSourceListener(dataSourceListener);
+				dataSourceListener = null;
+			}
+			if (value != null) {
+				// the data source may live longer than the list view
+				dataSourceListener = new WeakSectionedListViewDataSourceListener(dataSourceChanges, value);
+				value.addDataSourceListener(dataSourceListener);
+			}
+		}
+		dataSource = value;
+		nestedDataSource = null;
+		nestedContent = null;
+	}
+
 	/**
-	 * Get the selected raw objects.
-	 * ，
-	 * @return the list of raw objects.
+	 * Get the data source of the nested sections.
+	 * 
+	 * @return the nested data source, or null if not set
 	 */
-	public List<RawItemType> getSelectedRawItems() {
-		return getSelectionModel().getSelectedItems().stream()
-			.filter(item -> item != null && !item.isHeaderItem())
-			.map(item -> item.getRawItem())
-			.collect(toList());
+	public NestedSectionedListViewDataSource<RawItemType> getNestedDataSource() {
+		return nestedDataSource;
 	}
-	
+
 	/**
-	 * Get the non-selected raw objects.
+	 * Set the data source of the sections nested in sections instead of the
+	 * {@link SectionedListViewDataSource}, and reload the items from it. The
+	 * headers of the sections at all levels are created by
+	 * {@link SectionedListViewCellFactory#getSectionHeader(ListCell, int, String)}
+	 * with the index of the top-level section; the level of the header can be
+	 * found from the index path of the item of the list cell. The pinned header
+	 * and the section index bar work with the top-level sections. The filter,
+	 * the search text, the comparators, the section paging and the row
+	 * reordering only apply to a {@link SectionedListViewDataSource}.
 	 * 
-	 * @return the list of raw objects.
+	 * @param value the nested data source; null to clear the list
 	 */
-	public List<RawItemType> getNonSelectedRawItems() {
-		List<RawItemType> selectedItems = getSelectedRawItems();
-		return getItems().stream()
-			.filter(item -> {
-				return item != null && !item.isHeaderItem() && !selectedItems.contains(item);
-			})
-			.map(item -> item.getRawItem())
-			.collect(toList());
+	public void setNestedDataSource(NestedSectionedListViewDataSource<RawItemType> value) {
+		changeDataSource(null);
+		nestedDataSource = value;
+		reloadData();
 	}
-	
+
 	/**
-	 * Set the style of the outer cell. Because it's unable to call the original
-	 * {@link #setCellFactory(Callback)} of the sectioned list view, this provides
-	 * a chance to modify the style of the cell. The style will be applied to the
-	 * cell generated by the sectioned list view and the content is filled by the
-	 * {@link SectionedListViewCellFactory}. Note that this method will trigger a
-	 * refresh to reload the items from the data source into the list view for
-	 * applying the new style on all cells.
+	 * Get whether the nested section is collapsed.
 	 * 
-	 * @param style the new style of the outer cell
+	 * @param section the indexes of the section at each level
+	 * @return true if the section is collapsed
 	 */
-	public void setOuterCellStyle(String style) {
-		outerCellStyle = style;
-		if (isNotBlank(outerCellStyle)) {
-			reloadData();
+	public boolean isSectionCollapsed(int... section) {
+		return nestedContent != null && nestedContent.isCollapsed(section);
+	}
+
+	/**
+	 * Collapse the nested section so that only its header is displayed. Its
+	 * rows and subsections are removed from the items as one contiguous range.
+	 * 
+	 * @param section the indexes of the section at each level
+	 */
+	public void collapseSection(int... section) {
+		if (nestedContent != null) {
+			int[] range = nestedContent.collapse(section);
+			replaceNestedItems(range, null, false);
 		}
 	}
 
-	@Override
-	public ListCell<SectionedListItem<RawItemType>> call(ListView<SectionedListItem<RawItemType>> param) {
-		ListCell<SectionedListItem<RawItemType>> cell = new SectionedListCellContainer<RawItemType>(this);
-		if (isNotBlank(outerCellStyle)) {
-			cell.setStyle(outerCellStyle);
+	/**
+	 * Expand the collapsed nested section. The subsections that were collapsed
+	 * stay collapsed.
+	 * 
+	 * @param section the indexes of the section at each level
+	 */
+	public void expandSection(int... section) {
+		if (nestedContent != null) {
+			int[] range = nestedContent.expand(section);
+			replaceNestedItems(range != null ? new int[] { range[0], range[0] } : null, section, false);
 		}
-		cell.setOnMouseClicked(this::updateSelectedItemsOnClick);
-		return cell;
 	}
 
-	@SuppressWarnings("unchecked")
-	private void updateSelectedItemsOnClick(MouseEvent event) {
-		if (event.getSource() instanceof ListCell) {
-			ListCell<SectionedListItem<RawItemType>> cell = (ListCell<SectionedListItem<RawItemType>>)event.getSource();
-			if(cell.getItem() == null || cell.getItem().isHeaderItem()) {
-				return;
-			}
-			
-			SectionedListItem<RawItemType> toRemoved = null;
-			for(SectionedListItem<RawItemType> item : selectedItems) {
-				if(item.getRawItem() != null && item.getRawItem().equals(cell.getItem().getRawItem())) {
-					toRemoved = item;
-					break;
-				}
-			}
-			
-			if(toRemoved != null) {
-				selectedItems.remove(toRemoved);
-			}
-			else {
-				selectedItems.add(cell.getItem());
-			}
+	/**
+	 * Reload the nested section and its subsections from the data source
+	 * without reloading the other sections. The items of the section are
+	 * replaced as one contiguous range.
+	 * 
+	 * @param section the indexes of the section at each level; must not be empty
+	 */
+	public void reloadSection(int... section) {
+		if (nestedContent != null) {
+			int[] range = nestedContent.reload(nestedDataSource, section);
+			replaceNestedItems(range, section, true);
 		}
 	}
 
-	private void removeDisabledScrollBar(ObservableValue<? extends Bounds> observable, Bounds oldValue, Bounds newValue) {
-		Set<Node> nodes = lookupAll(".scroll-bar");
-		for(Node node : nodes) {
-			if (node instanceof ScrollBar) {
-				ScrollBar scrollBar = (ScrollBar)node;
-				if(scrollBar.getOrientation() == Orientation.HORIZONTAL && !scrollBar.isDisable()) {
-					scrollBar.setDisable(true);
-					scrollBar.getStyleClass().clear();
-				}
-			}
+	private void reloadNestedData() {
+		content = SectionedListContent.load(null);
+		filteredRows = null;
+		displayedRows = null;
+		inverseRows = null;
+		sectionOrder = null;
+		nestedContent = NestedSectionedListContent.load(nestedDataSource);
+		List<SectionedListItem<RawItemType>> items = new ArrayList<>(nestedContent.size());
+		nestedContent.flatten(new int[0], false, items);
+		displayedGridColumns = 0;
+		offsetIndex = nestedContent.topLevelOffsets();
+		setItems(new ObservableSectionedListItems<>(items));
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateSection();
 		}
+		recoverSelectionModel();
+		reloadSectionIndexTitles();
+		reloadProgress.set(1.0);
 	}
 
-	void enqueueReusableCell(RawItemType item, Node cell) {
-		List<Node> cells = reusableCells.get(item.getClass());
-		if (cells == null) {
-			cells = new ArrayList<>();
-			reusableCells.put(item.getClass(), cells);
+	/**
+	 * Replace the range of the items with the displayed items of the nested
+	 * section, and update the offsets of the top-level sections.
+	 * 
+	 * @param range the range to replace; null if nothing is displayed
+	 * @param section the section whose items replace the range; null to remove the range
+	 * @param withHeader true to include the header of the section
+	 */
+	private void replaceNestedItems(int[] range, int[] section, boolean withHeader) {
+		if (range == null) {
+			return;
+		}
+		List<SectionedListItem<RawItemType>> items = new ArrayList<>();
+		if (section != null) {
+			nestedContent.flatten(section, withHeader, items);
+		}
+		((ObservableSectionedListItems<RawItemType>)getItems()).replace(range[0], range[1], items);
+		offsetIndex = nestedContent.topLevelOffsets();
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateSection();
+			requestLayout();
 		}
-		cells.add(cell);
 	}
 
-	void enqueueReusableHeader(Node cell) {
-		reusableHeaders.add(cell);
+	/**
+	 * Get the title of the section of the header item at the index path.
+	 * 
+	 * @param path the index path of the header item
+	 * @return the section title, or null if the section is removed from the
+	 *         data source but the change is not applied yet
+	 */
+	String getSectionTitle(IndexPath path) {
+		if (nestedDataSource != null) {
+			return nestedDataSource.getSectionTitle(NestedIndexPath.sectionOf(path));
+		}
+		if (path.getSection() >= dataSource.numberOfSections()) {
+			// the header is updated when the merged changes are applied
+			return null;
+		}
+		return dataSource.getSectionTitle(path.getSection());
 	}
 
-	Optional<Node> dequeueReusableCell(RawItemType item) {
-		List<Node> cells = reusableCells.get(item.getClass());
-		if (cells == null) {
-			return Optional.empty();
+	/**
+	 * Publish the snapshot as the data source of the list view. This method
+	 * can be called in any thread: outside the JavaFX application thread, the
+	 * snapshot is swapped in at the next pulse, and only the latest one is
+	 * applied if several snapshots are published before that. If the current
+	 * data source is also a snapshot, only the changed sections and rows are
+	 * loaded, the unchanged items are kept, and the list is updated in the
+	 * changed range instead of being replaced.
+	 * 
+	 * @param snapshot the new snapshot; null for the empty snapshot
+	 */
+	public void setSnapshot(SectionedListSnapshot<RawItemType> snapshot) {
+		SectionedListSnapshot<RawItemType> value = snapshot != null ? snapshot : SectionedListSnapshot.empty();
+		if (Platform.isFxApplicationThread()) {
+			pendingSnapshot.set(null);
+			applySnapshot(value);
+		}
+		else if (pendingSnapshot.getAndSet(value) == null) {
+			Platform.runLater(() -> {
+				SectionedListSnapshot<RawItemType> latest = pendingSnapshot.getAndSet(null);
+				if (latest != null) {
+					applySnapshot(latest);
+				}
+			});
 		}
-		return cells.stream().filter(node -> node.parentProperty().get() == null).findFirst();
 	}
 
-	Optional<Node> dequeueReusableHeader() {
-		return reusableHeaders.stream().filter(node -> node.parentProperty().get() == null).findFirst();
+	@SuppressWarnings("unchecked")
+	private void applySnapshot(SectionedListSnapshot<RawItemType> snapshot) {
+		SectionedListViewDataSource<RawItemType> previous = dataSource;
+		changeDataSource(snapshot);
+		// a truncated content misses the rows of the previous snapshot that are not loaded yet
+		if (!(previous instanceof SectionedListSnapshot) || content.isPaged() || content.isTruncated() || incrementalReload != null || getItems() == null) {
+			reloadData();
+			return;
+		}
+		patchContent(SectionedListContent.update(content, (SectionedListSnapshot<RawItemType>)previous, snapshot));
 	}
 
 	/**
-	 * Recover the selectedItems to the selection model.
+	 * Apply the merged changes notified by the data source.
+	 * 
+	 * @param changes the merged changes
 	 */
-	protected void recoverSelectionModel() {
-		ObservableList<SectionedListItem<RawItemType>> currentItems = getItems();
-		for(SectionedListItem<RawItemType> item : selectedItems) {
-			for(SectionedListItem<RawItemType> currentItem : currentItems) {
-				if(currentItem.getRawItem() != null && currentItem.getRawItem().equals(item.getRawItem())) {
-					getSelectionModel().select(currentItems.indexOf(currentItem));
-					break;
-				}
-			}
+	private void applyDataSourceChanges(SectionedListChanges changes) {
+		if (incrementalReload != null) {
+			reloadDataIncrementally();
+		}
+		else if (dataSource == null || content.isPaged() || getItems() == null) {
+			reloadData();
+		}
+		else {
+			patchContent(SectionedListContent.refresh(content, dataSource, changes));
 		}
 	}
-	
+
 	/**
-	 * reset the selectedItems according to new all items.
+	 * Replace the content that shares the unchanged items with the current
+	 * content, and patch the displayed items instead of replacing them. The
+	 * rows that are still displayed keep their selection, no matter whether
+	 * they were selected by clicking or by the selection model.
+	 * 
+	 * @param newContent the new content
 	 */
-	protected void updateSelectedItemsList() {
-		ObservableList<SectionedListItem<RawItemType>> newSelectedItemList = FXCollections.observableArrayList();
-		for(SectionedListItem<RawItemType> selectedItem : selectedItems) {
-			for(SectionedListItem<RawItemType> currentItem: getItems()) {
-				if(selectedItem.getRawItem() != null && selectedItem.getRawItem().equals(currentItem.getRawItem())){
-					newSelectedItemList.add(currentItem);
-				}
-			}
+	private void patchContent(SectionedListContent<RawItemType> newContent) {
+		// the selected indices may point at other rows after the patch, so the
+		// rows are selected again by their raw items
+		Set<RawItemType> selected = new HashSet<>(getSelectedRawItems());
+		getSelectionModel().clearSelection();
+		content = newContent;
+		filteredRows = null;
+		patchingItems = true;
+		try {
+			applyFilter(false, false);
+		}
+		finally {
+			patchingItems = false;
+		}
+		selectRawItems(selected);
+		reloadSectionIndexTitles();
+	}
+
+	/**
+	 * Get the filter of the raw items.
+	 * 
+	 * @return the filter; null if not set
+	 */
+	public Predicate<RawItemType> getFilter() {
+		return filter;
+	}
+
+	/**
+	 * Set the filter of the raw items. Only the rows whose raw item matches
+	 * the filter are displayed, and the sections left without any row are
+	 * hidden. Note that the filter may be tested in parallel in the worker
+	 * threads for the large data sets, so it should be thread-safe.
+	 * 
+	 * @param predicate the new filter; null to display all rows
+	 */
+	public void setFilter(Predicate<RawItemType> predicate) {
+		filter = predicate;
+		applyFilter(false, true);
+	}
+
+	/**
+	 * Get the search text.
+	 * 
+	 * @return the search text; null if not set
+	 */
+	public String getSearchText() {
+		return searchText;
+	}
+
+	/**
+	 * Set the search text. Only the rows whose raw item contains the text in
+	 * its string representation (ignoring case) are displayed, along with the
+	 * filter set by {@link #setFilter(Predicate)}. When the new text contains
+	 * the previous one, only the rows matched before are searched again. For
+	 * the large data sets, the search runs in the background and a search
+	 * still running is cancelled by the next one, so that the user can type
+	 * ahead without waiting.
+	 * 
+	 * @param text the new search text; null or empty to display all rows
+	 */
+	public void setSearchText(String text) {
+		searchText = text != null && !text.isEmpty() ? text : null;
+		applyFilter(true, true);
+	}
+
+	/**
+	 * Get the comparator that sorts the rows in each section.
+	 * 
+	 * @return the row comparator; null if not set
+	 */
+	public Comparator<RawItemType> getRowComparator() {
+		return rowComparator;
+	}
+
+	/**
+	 * Set the comparator that sorts the rows in each section. The rows are
+	 * sorted within their sections and the large sections are sorted in
+	 * parallel. The items are still loaded from the data source with their
+	 * original index paths, and the selected rows stay selected after the
+	 * sort.
+	 * 
+	 * @param comparator the new row comparator; null for the order in the data source
+	 */
+	public void setRowComparator(Comparator<RawItemType> comparator) {
+		rowComparator = comparator;
+		resortContent();
+	}
+
+	/**
+	 * Get the comparator that sorts the sections by their titles.
+	 * 
+	 * @return the section comparator; null if not set
+	 */
+	public Comparator<String> getSectionComparator() {
+		return sectionComparator;
+	}
+
+	/**
+	 * Set the comparator that sorts the sections by their titles. The selected
+	 * rows stay selected after the sort.
+	 * 
+	 * @param comparator the new section comparator; null for the order in the data source
+	 */
+	public void setSectionComparator(Comparator<String> comparator) {
+		sectionComparator = comparator;
+		resortContent();
+	}
+
+	/**
+	 * Get whether the header of the section at the top of the viewport is
+	 * pinned while scrolling.
+	 * 
+	 * @return true if the section header is pinned
+	 */
+	public boolean isPinnedHeaderEnabled() {
+		return pinnedHeader != null;
+	}
+
+	/**
+	 * Set whether the header of the section at the top of the viewport is
+	 * pinned while scrolling. The pinned header is one overlay node created
+	 * by the {@link SectionedListViewCellFactory} and rebound with the title
+	 * of the top section, so that it does not depend on the number of the
+	 * sections.
+	 * 
+	 * @param enabled true to pin the section header
+	 */
+	public void setPinnedHeaderEnabled(boolean enabled) {
+		if (enabled == isPinnedHeaderEnabled()) {
+			return;
+		}
+		if (enabled) {
+			pinnedHeader = new PinnedSectionHeader<RawItemType>(this);
+			if (isNotBlank(outerCellStyle)) {
+				pinnedHeader.setStyle(outerCellStyle);
+			}
+			getChildren().add(pinnedHeader);
+		}
+		else {
+			getChildren().remove(pinnedHeader);
+			pinnedHeader = null;
+		}
+		requestLayout();
+	}
+
+	/**
+	 * Get whether the section index bar is shown at the side of the list.
+	 * 
+	 * @return true if the section index bar is enabled
+	 */
+	public boolean isSectionIndexBarEnabled() {
+		return sectionIndexBar != null;
+	}
+
+	/**
+	 * Set whether the section index bar is shown at the side of the list. The
+	 * titles in the bar are provided by {@link SectionedListViewDataSource#sectionIndexTitles()}
+	 * and the bar is hidden if the data source does not provide any title.
+	 * Pressing or dragging over a title scrolls the list to the section given
+	 * by {@link SectionedListViewDataSource#sectionForSectionIndexTitle(String, int)}.
+	 * 
+	 * @param enabled true to show the section index bar
+	 */
+	public void setSectionIndexBarEnabled(boolean enabled) {
+		if (enabled == isSectionIndexBarEnabled()) {
+			return;
+		}
+		if (enabled) {
+			sectionIndexBar = new SectionIndexBar<RawItemType>(this);
+			sectionIndexBar.setTitles(sectionIndexTitles);
+			getChildren().add(sectionIndexBar);
+		}
+		else {
+			getChildren().remove(sectionIndexBar);
+			sectionIndexBar = null;
+		}
+		requestLayout();
+	}
+
+	/**
+	 * Scroll to the section of the title at the given index in the section
+	 * index. The flat index of the section is computed from the section offsets
+	 * so that it takes only logarithmic time regardless of the number of rows.
+	 * 
+	 * @param titleIndex the index of the title in the section index
+	 */
+	public void scrollToSectionIndexTitle(int titleIndex) {
+		if (titleIndex < 0 || titleIndex >= sectionIndexTitles.size()) {
+			return;
+		}
+		int section = dataSource.sectionForSectionIndexTitle(sectionIndexTitles.get(titleIndex), titleIndex);
+		int position = Math.min(offsetIndex.positionOfSection(section), offsetIndex.numberOfSections() - 1);
+		if (position >= 0) {
+			scrollTo(offsetIndex.getStart(position));
+		}
+	}
+
+	/**
+	 * Get the function that gets the keys of the raw items in the item index.
+	 * 
+	 * @return the key function, or null if the raw items are not indexed
+	 */
+	public Function<? super RawItemType, ?> getItemIndexKey() {
+		return itemIndexKey;
+	}
+
+	/**
+	 * Set the function that gets the keys of the raw items to build an index
+	 * from the raw item to its index path. With the index, {@link #indexPathOf(Object)},
+	 * {@link #scrollToItem(Object)} and {@link #selectItem(Object)} take constant
+	 * time instead of walking through the rows. The index is kept up to date
+	 * when the rows are reloaded or updated. The keys should be unique and
+	 * compared by their <code>equals</code> methods, e.g. {@link Function#identity()}
+	 * to index the raw items themselves, or a function that gets the record id.
+	 * In the section paging mode, only the loaded sections are indexed.
+	 * 
+	 * @param key the key function; null to remove the index
+	 */
+	public void setItemIndexKey(Function<? super RawItemType, ?> key) {
+		itemIndexKey = key;
+		content.setItemIndex(newItemIndex());
+	}
+
+	private SectionedListItemIndex<RawItemType> newItemIndex() {
+		return itemIndexKey != null ? new SectionedListItemIndex<>(itemIndexKey) : null;
+	}
+
+	/**
+	 * Get the index path of the raw item in the data source. If the item index
+	 * is enabled by {@link #setItemIndexKey(Function)}, the raw item is found by
+	 * its key; otherwise the loaded rows are compared one by one with
+	 * <code>equals</code>.
+	 * 
+	 * @param rawItem the raw item to find
+	 * @return the index path, or null if not found
+	 */
+	public IndexPath indexPathOf(RawItemType rawItem) {
+		if (rawItem == null) {
+			return null;
+		}
+		SectionedListItemIndex<RawItemType> index = content.getItemIndex();
+		if (index != null) {
+			SectionedListItem<RawItemType> item = index.get(rawItem);
+			return item != null ? item.getIndexPath() : null;
+		}
+		for (int section = 0; section < content.numberOfSections(); section++) {
+			if (!content.isResident(section)) {
+				continue;
+			}
+			for (int row = 0; row < content.numberOfRows(section); row++) {
+				// the rows not loaded yet by an incremental reload are null
+				SectionedListItem<RawItemType> item = content.getRow(section, row);
+				if (item != null && rawItem.equals(item.getRawItem())) {
+					return item.getIndexPath();
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Scroll to the row of the raw item. Note that the method is not named
+	 * <code>scrollTo</code> because {@link #scrollTo(Object)} of the list view
+	 * takes a list item.
+	 * 
+	 * @param rawItem the raw item to scroll to
+	 * @return true if the row is displayed and scrolled to; false if the row is
+	 *         not found or hidden by the filter
+	 */
+	public boolean scrollToItem(RawItemType rawItem) {
+		int index = displayedIndexOf(rawItem);
+		if (index >= 0) {
+			scrollTo(index);
+		}
+		return index >= 0;
+	}
+
+	/**
+	 * Select the row of the raw item.
+	 * 
+	 * @param rawItem the raw item to select
+	 * @return true if the row is displayed and selected; false if the row is
+	 *         not found or hidden by the filter
+	 */
+	public boolean selectItem(RawItemType rawItem) {
+		int index = displayedIndexOf(rawItem);
+		if (index >= 0) {
+			getSelectionModel().select(index);
+		}
+		return index >= 0;
+	}
+
+	private int displayedIndexOf(RawItemType rawItem) {
+		IndexPath path = indexPathOf(rawItem);
+		return path != null ? flatIndexOf(path.getSection(), path.getRow()) : -1;
+	}
+
+	/**
+	 * Get whether the user can drag a row to reorder the rows.
+	 * 
+	 * @return true if the row reordering is enabled
+	 */
+	public boolean isRowReorderingEnabled() {
+		return rowReordering;
+	}
+
+	/**
+	 * Set whether the user can drag a row and drop it onto another row or a
+	 * section header to move it, within its section or into another section.
+	 * The rows are moved only if the data source is a {@link ReorderableSectionedListViewDataSource}
+	 * and the displayed rows are in the order of the data source, that is, no
+	 * filter, search text or row comparator is set and the section paging is
+	 * disabled.
+	 * 
+	 * @param enabled true to enable the row reordering
+	 */
+	public void setRowReorderingEnabled(boolean enabled) {
+		rowReordering = enabled;
+	}
+
+	/**
+	 * Move the row to another index path through {@link ReorderableSectionedListViewDataSource#moveRow(IndexPath, IndexPath)}.
+	 * The data source is not reloaded: the displayed items from the source to
+	 * the target are replaced with one change, and only the rows whose index
+	 * paths are changed by the move are numbered again, that is, the rows
+	 * between the source and the target in the same section, or the rows after
+	 * them in their sections for a move across the sections. The other items
+	 * and their cells are kept as they are, and so are the scroll position and
+	 * the selection.
+	 * 
+	 * @param from the index path of the row before the move
+	 * @param to the index path of the row after the move
+	 * @return true if the row is moved; false if the rows cannot be moved or
+	 *         the index paths are out of range
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean moveRow(IndexPath from, IndexPath to) {
+		if (from == null || to == null || !canMoveRows()) {
+			return false;
+		}
+		int source = from.getSection();
+		int target = to.getSection();
+		int sections = content.numberOfSections();
+		if (source < 0 || source >= sections || target < 0 || target >= sections) {
+			return false;
+		}
+		int rows = content.numberOfRows(target) - (source == target ? 1 : 0);
+		if (from.getRow() < 0 || from.getRow() >= content.numberOfRows(source) || to.getRow() < 0 || to.getRow() > rows) {
+			return false;
+		}
+		ReorderableSectionedListViewDataSource<RawItemType> reorderable = (ReorderableSectionedListViewDataSource<RawItemType>)dataSource;
+		if ((source == target && from.getRow() == to.getRow()) || !reorderable.canMoveRow(from)) {
+			return false;
+		}
+		int oldIndex = flatIndexOf(source, from.getRow());
+		int[] selectedIndices = getSelectionModel().getSelectedIndices().stream().mapToInt(Integer::intValue).toArray();
+		int focusedIndex = getFocusModel().getFocusedIndex();
+		reorderable.moveRow(from, to);
+		content = SectionedListContent.move(content, from, to);
+		offsetIndex = content.flatten(sectionOrder, null, false, null);
+		int newIndex = flatIndexOf(target, to.getRow());
+		int low = Math.min(oldIndex, newIndex);
+		int high = Math.max(oldIndex, newIndex) + 1;
+		if (source != target) {
+			// the rows after the source and the target in their sections are numbered again
+			high = Math.max(high, Math.max(sectionEnd(source), sectionEnd(target)));
+		}
+		List<SectionedListItem<RawItemType>> range = new ArrayList<>(high - low);
+		for (int index = low; index < high; index++) {
+			range.add(itemAt(index));
+		}
+		((ObservableSectionedListItems<RawItemType>)getItems()).replace(low, high, range);
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateSection();
+			requestLayout();
+		}
+		getSelectionModel().clearSelection();
+		for (int index : selectedIndices) {
+			getSelectionModel().select(movedIndex(index, oldIndex, newIndex));
+		}
+		if (focusedIndex >= 0) {
+			getFocusModel().focus(movedIndex(focusedIndex, oldIndex, newIndex));
+		}
+		return true;
+	}
+
+	private boolean canMoveRows() {
+		return dataSource instanceof ReorderableSectionedListViewDataSource && !content.isPaged() && incrementalReload == null
+			&& filter == null && searchText == null && rowComparator == null && displayedGridColumns == 0 && getItems() instanceof ObservableSectionedListItems;
+	}
+
+	private int sectionEnd(int section) {
+		int position = offsetIndex.positionOfDisplayedSection(section);
+		return position + 1 < offsetIndex.numberOfSections() ? offsetIndex.getStart(position + 1) : offsetIndex.size();
+	}
+
+	private SectionedListItem<RawItemType> itemAt(int index) {
+		int position = offsetIndex.positionOf(index);
+		int section = offsetIndex.getSection(position);
+		int row = index - offsetIndex.getStart(position);
+		if (offsetIndex.hasHeader(position)) {
+			if (row == 0) {
+				return content.getHeader(section);
+			}
+			row--;
+		}
+		return content.getRow(section, row);
+	}
+
+	private static int movedIndex(int index, int oldIndex, int newIndex) {
+		if (index == oldIndex) {
+			return newIndex;
+		}
+		if (oldIndex < index && index <= newIndex) {
+			return index - 1;
+		}
+		if (newIndex <= index && index < oldIndex) {
+			return index + 1;
+		}
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void startDraggingRow(MouseEvent event) {
+		ListCell<SectionedListItem<RawItemType>> cell = (ListCell<SectionedListItem<RawItemType>>)event.getSource();
+		SectionedListItem<RawItemType> item = cell.getItem();
+		if (!rowReordering || item == null || item.isHeaderItem() || !canMoveRows()
+			|| !((ReorderableSectionedListViewDataSource<RawItemType>)dataSource).canMoveRow(item.getIndexPath())) {
+			return;
+		}
+		draggedRow = item.getIndexPath();
+		Dragboard dragboard = cell.startDragAndDrop(TransferMode.MOVE);
+		ClipboardContent dragged = new ClipboardContent();
+		dragged.putString(String.valueOf(item.getRawItem()));
+		dragboard.setContent(dragged);
+		dragboard.setDragView(cell.snapshot(null, null));
+		event.consume();
+	}
+
+	private void acceptDraggedRow(DragEvent event) {
+		if (draggedRow != null && event.getGestureSource() instanceof ListCell && ((ListCell<?>)event.getGestureSource()).getListView() == this) {
+			event.acceptTransferModes(TransferMode.MOVE);
+			event.consume();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void dropDraggedRow(DragEvent event) {
+		SectionedListItem<RawItemType> item = ((ListCell<SectionedListItem<RawItemType>>)event.getSource()).getItem();
+		boolean moved = false;
+		if (draggedRow != null && item != null) {
+			// dropped onto a header to move the row to the top of the section
+			IndexPath target = item.isHeaderItem() ? new ImmutableIndexPath(item.getIndexPath().getSection(), 0) : item.getIndexPath();
+			moved = moveRow(draggedRow, target);
+		}
+		draggedRow = null;
+		event.setDropCompleted(moved);
+		event.consume();
+	}
+
+	/**
+	 * Get the selected raw objects. In the grid layout, the raw objects of all
+	 * the items in the selected grid rows are returned.
+	 * ，
+	 * @return the list of raw objects.
+	 */
+	public List<RawItemType> getSelectedRawItems() {
+		List<SectionedListItem<RawItemType>> items = getSelectionModel().getSelectedItems();
+		List<RawItemType> rawItems = new ArrayList<>(items.size());
+		for (SectionedListItem<RawItemType> item : items) {
+			if (item == null || item.isHeaderItem()) {
+				continue;
+			}
+			if (item instanceof SectionedListGridRow) {
+				for (SectionedListItem<RawItemType> rowItem : getGridRowItems((SectionedListGridRow<RawItemType>)item)) {
+					rawItems.add(rowItem.getRawItem());
+				}
+			}
+			else {
+				rawItems.add(item.getRawItem());
+			}
+		}
+		return rawItems;
+	}
+	
+	/**
+	 * Get the non-selected raw objects. In the grid layout, the raw objects
+	 * of the items in the grid rows are returned one by one.
+	 * 
+	 * @return the list of raw objects.
+	 */
+	public List<RawItemType> getNonSelectedRawItems() {
+		List<RawItemType> selectedItems = getSelectedRawItems();
+		return getItems().stream()
+			.filter(item -> item != null && !item.isHeaderItem())
+			.flatMap(item -> rowItemsOf(item).stream())
+			.map(item -> item.getRawItem())
+			.filter(rawItem -> !selectedItems.contains(rawItem))
+			.collect(toList());
+	}
+	
+	/**
+	 * Set the style of the outer cell. Because it's unable to call the original
+	 * {@link #setCellFactory(Callback)} of the sectioned list view, this provides
+	 * a chance to modify the style of the cell. The style will be applied to the
+	 * cell generated by the sectioned list view and the content is filled by the
+	 * {@link SectionedListViewCellFactory}. Note that this method will trigger a
+	 * refresh to reload the items from the data source into the list view for
+	 * applying the new style on all cells.
+	 * 
+	 * @param style the new style of the outer cell
+	 */
+	public void setOuterCellStyle(String style) {
+		outerCellStyle = style;
+		if (isNotBlank(outerCellStyle)) {
+			if (pinnedHeader != null) {
+				pinnedHeader.setStyle(outerCellStyle);
+			}
+			invalidateCellHeights();
+			reloadData();
+		}
+	}
+
+	@Override
+	public ListCell<SectionedListItem<RawItemType>> call(ListView<SectionedListItem<RawItemType>> param) {
+		SectionedListCellContainer<RawItemType> cell = new SectionedListCellContainer<RawItemType>(this);
+		if (isNotBlank(outerCellStyle)) {
+			cell.setStyle(outerCellStyle);
+		}
+		cell.setOnMouseClicked(this::updateSelectedItemsOnClick);
+		cell.setOnDragDetected(this::startDraggingRow);
+		cell.setOnDragOver(this::acceptDraggedRow);
+		cell.setOnDragDropped(this::dropDraggedRow);
+		cell.setOnDragDone(event -> draggedRow = null);
+		return cell;
+	}
+
+	/**
+	 * Get the fixed number of the columns of the grid layout.
+	 * 
+	 * @return the number of the columns; 0 if the grid layout is disabled
+	 */
+	public int getGridColumns() {
+		return gridColumns;
+	}
+
+	/**
+	 * Set the fixed number of the columns of the grid layout. With the grid
+	 * layout, the rows of the sections that {@link SectionedListViewDataSource#isGridSection(int)}
+	 * are laid out as a grid: each list cell shows a grid row of the cells
+	 * created by the {@link SectionedListViewCellFactory}, while the headers
+	 * still span the full width. The list cells are created for the visible
+	 * grid rows only, and the row cells are reused across the grid rows. Note
+	 * that the selection model selects the grid rows, and the grid layout is
+	 * not used in the section paging mode, with the canvas rendering, during
+	 * an incremental reload, or with a nested data source.
+	 * 
+	 * @param columns the number of the columns; 0 to disable the grid layout
+	 * @see #setGridCellWidth(double)
+	 */
+	public void setGridColumns(int columns) {
+		gridColumns = Math.max(0, columns);
+		updateGridColumns();
+	}
+
+	/**
+	 * Get the width of the cells from which the number of the columns of the
+	 * grid layout is computed.
+	 * 
+	 * @return the cell width; 0 if the number of the columns is fixed
+	 */
+	public double getGridCellWidth() {
+		return gridCellWidth;
+	}
+
+	/**
+	 * Set the width of the cells in the grid layout. If positive, the number
+	 * of the columns is computed from the width of the list view, that is, as
+	 * many columns as the cells of this width fit in, and it is computed again
+	 * when the list view is resized. The fixed number of the columns set by
+	 * {@link #setGridColumns(int)} is ignored.
+	 * 
+	 * @param width the cell width; 0 to use the fixed number of the columns
+	 */
+	public void setGridCellWidth(double width) {
+		gridCellWidth = Math.max(0.0, width);
+		updateGridColumns();
+	}
+
+	/**
+	 * Get the number of the columns of the displayed grid rows.
+	 * 
+	 * @return the number of the columns; 0 if the items are not laid out as grids
+	 */
+	int getDisplayedGridColumns() {
+		return displayedGridColumns;
+	}
+
+	/**
+	 * Get the items of the grid row. The items are resolved through the
+	 * position of the section in the section offset index and the displayed
+	 * rows of the section.
+	 * 
+	 * @param gridRow the grid row
+	 * @return the items in the grid row
+	 */
+	List<SectionedListItem<RawItemType>> getGridRowItems(SectionedListGridRow<RawItemType> gridRow) {
+		int section = gridRow.getSection();
+		if (displayedGridColumns <= 0 || offsetIndex.positionOfDisplayedSection(section) < 0) {
+			return emptyList();
+		}
+		int[] rowMap = displayedRows != null ? displayedRows[section] : null;
+		int count = rowMap != null ? rowMap.length : content.numberOfRows(section);
+		int from = gridRow.getGridRow() * displayedGridColumns;
+		int to = Math.min(count, from + displayedGridColumns);
+		List<SectionedListItem<RawItemType>> items = new ArrayList<>(Math.max(0, to - from));
+		for (int row = from; row < to; row++) {
+			items.add(content.getRow(section, rowMap != null ? rowMap[row] : row));
+		}
+		return items;
+	}
+
+	private int desiredGridColumns() {
+		if ((gridColumns <= 0 && gridCellWidth <= 0.0) || content.isPaged() || incrementalReload != null || nestedContent != null || isCanvasRenderingEnabled()) {
+			return 0;
+		}
+		return gridCellWidth > 0.0 ? Math.max(1, (int)(getViewportWidth() / gridCellWidth)) : gridColumns;
+	}
+
+	/**
+	 * Group the displayed rows into the grid rows again if the number of the
+	 * columns is changed, and select the grid rows or the rows that have the
+	 * selected raw items.
+	 */
+	private void updateGridColumns() {
+		if (content != null && desiredGridColumns() != displayedGridColumns) {
+			Set<RawItemType> selected = new HashSet<>(getSelectedRawItems());
+			patchingItems = true;
+			try {
+				updateItems();
+			}
+			finally {
+				patchingItems = false;
+			}
+			getSelectionModel().clearSelection();
+			selectRawItems(selected);
+		}
+	}
+
+	/**
+	 * Select the displayed rows and grid rows that have the raw items.
+	 * 
+	 * @param rawItems the raw items to select
+	 */
+	private void selectRawItems(Collection<RawItemType> rawItems) {
+		if (rawItems.isEmpty()) {
+			return;
+		}
+		ObservableList<SectionedListItem<RawItemType>> items = getItems();
+		for (int index = 0; index < items.size(); index++) {
+			SectionedListItem<RawItemType> item = items.get(index);
+			if (item.isHeaderItem()) {
+				continue;
+			}
+			for (SectionedListItem<RawItemType> rowItem : rowItemsOf(item)) {
+				if (rawItems.contains(rowItem.getRawItem())) {
+					getSelectionModel().select(index);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get whether all headers share one height and all rows share one height.
+	 * 
+	 * @return true if the cell heights are uniform
+	 */
+	public boolean isUniformCellHeights() {
+		return uniformCellHeights;
+	}
+
+	/**
+	 * Set whether all headers share one height and all rows share one height.
+	 * If true, the height of the headers and the height of the rows are
+	 * measured once from the first cell of each kind, and the other cells are
+	 * sized without measuring their contents. This works like the fixed cell
+	 * size of the list view, but it is aware of the headers.
+	 * 
+	 * @param uniform true if the cell heights are uniform
+	 */
+	public void setUniformCellHeights(boolean uniform) {
+		uniformCellHeights = uniform;
+		invalidateCellHeights();
+		refresh();
+	}
+
+	/**
+	 * Get whether the rows are loaded section by section around the viewport.
+	 * 
+	 * @return true if the section paging is enabled
+	 */
+	public boolean isSectionPagingEnabled() {
+		return sectionPaging;
+	}
+
+	/**
+	 * Set whether the rows are loaded section by section around the viewport.
+	 * In the paging mode, only the section headers and the number of the rows
+	 * are loaded by {@link #reloadData()}. The rows of a section are loaded
+	 * when the section comes within {@link #getPagingScreens()} screens of the
+	 * viewport, and the sections far from the viewport are evicted while the
+	 * loaded rows exceed {@link #getResidentRowBudget()}. This mode is designed
+	 * for the data sources whose {@link SectionedListViewDataSource#numberOfRowsInSection(int)}
+	 * is cheap but {@link SectionedListViewDataSource#getItem(IndexPath)} is
+	 * expensive. Note that the filter, the search and the sort still need all
+	 * the rows, so they load the sections in the current thread, and the
+	 * selection is recovered by the index paths after a reload.
+	 * 
+	 * @param enabled true to load the rows section by section
+	 */
+	public void setSectionPagingEnabled(boolean enabled) {
+		if (enabled != sectionPaging) {
+			sectionPaging = enabled;
+			reloadData();
+		}
+	}
+
+	/**
+	 * Get the number of the screens above and below the viewport whose
+	 * sections are loaded in the section paging mode.
+	 * 
+	 * @return the number of the screens
+	 */
+	public int getPagingScreens() {
+		return pagingScreens;
+	}
+
+	/**
+	 * Set the number of the screens above and below the viewport whose
+	 * sections are loaded in the section paging mode.
+	 * 
+	 * @param screens the number of the screens; not negative
+	 */
+	public void setPagingScreens(int screens) {
+		pagingScreens = Math.max(0, screens);
+		requestLayout();
+	}
+
+	/**
+	 * Get the maximum number of the loaded rows in the section paging mode.
+	 * 
+	 * @return the row budget
+	 */
+	public int getResidentRowBudget() {
+		return residentRowBudget;
+	}
+
+	/**
+	 * Set the maximum number of the loaded rows in the section paging mode.
+	 * The sections near the viewport are kept even if they exceed the budget.
+	 * 
+	 * @param budget the row budget
+	 */
+	public void setResidentRowBudget(int budget) {
+		residentRowBudget = Math.max(0, budget);
+		requestLayout();
+	}
+
+	/**
+	 * Get whether the items are drawn as plain text onto one canvas.
+	 * 
+	 * @return true if the canvas rendering is enabled
+	 */
+	public boolean isCanvasRenderingEnabled() {
+		return getSkin() instanceof SectionedListCanvasSkin;
+	}
+
+	/**
+	 * Set whether the items are drawn as plain text onto one canvas. In this
+	 * lightweight mode, the visible headers and rows are drawn with the string
+	 * representations of the section titles and the raw items, and no cell is
+	 * created. The {@link SectionedListViewCellFactory} and the outer cell style
+	 * are ignored, but the selection, the filter, the sort and the overlays
+	 * work as usual. This mode is designed for the huge plain-text lists, e.g.
+	 * logs and reports with millions of lines.
+	 * 
+	 * @param enabled true to draw the items onto one canvas
+	 */
+	public void setCanvasRenderingEnabled(boolean enabled) {
+		if (enabled == isCanvasRenderingEnabled()) {
+			return;
+		}
+		setSkin(enabled ? new SectionedListCanvasSkin<RawItemType>(this) : createDefaultSkin());
+		updateGridColumns();
+	}
+
+	@Override
+	protected Skin<?> createDefaultSkin() {
+		return new SectionedListViewSkin<RawItemType>(this);
+	}
+
+	/**
+	 * Get the current skin if it is a {@link SectionedListViewSkin}.
+	 * 
+	 * @return the skin, or null if another skin is used
+	 */
+	@SuppressWarnings("unchecked")
+	SectionedListViewSkin<RawItemType> getSectionedListViewSkin() {
+		return getSkin() instanceof SectionedListViewSkin ? (SectionedListViewSkin<RawItemType>)getSkin() : null;
+	}
+
+	/**
+	 * Get the skin that shares the cell heights if the cell heights are uniform.
+	 * 
+	 * @return the skin, or null if the cell heights are not shared
+	 */
+	SectionedListViewSkin<RawItemType> getUniformHeightSkin() {
+		return uniformCellHeights ? getSectionedListViewSkin() : null;
+	}
+
+	private void invalidateCellHeights() {
+		SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+		if (skin != null) {
+			skin.invalidateCellHeights();
+		}
+	}
+
+	/**
+	 * Apply the current filter and search text to the loaded content. If the
+	 * matched rows of the previous result are a superset of the new result,
+	 * the previous result is narrowed instead of testing all rows again.
+	 * 
+	 * @param typing true to run the large filters in the background
+	 * @param sameContent true if the content is not changed since the previous
+	 * filter, so that the selected rows are found again by their index paths
+	 */
+	private void applyFilter(boolean typing, boolean sameContent) {
+		if (incrementalReload != null || nestedContent != null) {
+			// applied when the incremental reload finishes; the nested sections are not filtered
+			return;
+		}
+		if (pendingFilter != null) {
+			pendingFilter.cancel();
+			pendingFilter = null;
+		}
+		Predicate<RawItemType> base = filter;
+		String text = searchText;
+		if (base == null && text == null) {
+			publishFilteredRows(null, null, null, sameContent);
+			return;
+		}
+		int[][] candidates = isNarrowing(base, text) ? filteredRows : null;
+		Predicate<RawItemType> predicate = base;
+		if (text != null) {
+			predicate = item -> item != null && containsIgnoreCase(item.toString(), text) && (base == null || base.test(item));
+		}
+		SectionedListFilter<RawItemType> task = new SectionedListFilter<>(content, predicate, candidates);
+		if (typing && content.size() >= SectionedListFilter.ParallelThreshold && !content.isPaged()) {
+			pendingFilter = task;
+			task.filterInBackground(rows -> {
+				pendingFilter = null;
+				publishFilteredRows(rows, base, text, sameContent);
+			});
+		}
+		else {
+			publishFilteredRows(task.filter(), base, text, sameContent);
+		}
+	}
+
+	private boolean isNarrowing(Predicate<RawItemType> predicate, String text) {
+		if (filteredRows == null || filteredPredicate != predicate) {
+			return false;
+		}
+		return filteredSearchText == null || (text != null && containsIgnoreCase(text, filteredSearchText));
+	}
+
+	private void publishFilteredRows(int[][] rows, Predicate<RawItemType> predicate, String text, boolean sameContent) {
+		List<IndexPath> selectedPaths = sameContent ? getSelectedIndexPaths(true) : null;
+		filteredRows = rows;
+		filteredPredicate = predicate;
+		filteredSearchText = text;
+		sortContent();
+		updateItems();
+		if (selectedPaths != null) {
+			selectIndexPaths(selectedPaths);
+		}
+		else {
+			recoverSelectionModel();
+		}
+	}
+
+	/**
+	 * Sort the filtered rows of each section with the row comparator, and the
+	 * sections with the section comparator. The result of the sort is the
+	 * permutation from the displayed row to the row in the data source, so
+	 * that the items are always loaded with their original index paths.
+	 */
+	private void sortContent() {
+		displayedRows = filteredRows;
+		inverseRows = null;
+		int sections = content.numberOfSections();
+		if (rowComparator != null) {
+			Comparator<RawItemType> comparator = nullsLast(rowComparator);
+			displayedRows = new int[sections][];
+			for (int section = 0; section < sections; section++) {
+				displayedRows[section] = content.sortRows(section, filteredRows != null ? filteredRows[section] : null, comparator);
+			}
+		}
+		sectionOrder = null;
+		if (sectionComparator != null && sections > 0) {
+			Comparator<String> comparator = nullsLast(sectionComparator);
+			String[] titles = new String[sections];
+			Integer[] order = new Integer[sections];
+			for (int section = 0; section < sections; section++) {
+				titles[section] = dataSource.getSectionTitle(section);
+				order[section] = section;
+			}
+			sort(order, (left, right) -> comparator.compare(titles[left], titles[right]));
+			sectionOrder = new int[sections];
+			for (int position = 0; position < sections; position++) {
+				sectionOrder[position] = order[position];
+			}
+		}
+	}
+
+	/**
+	 * Flatten the displayed rows of the content into the items of the list.
+	 */
+	private void updateItems() {
+		if (content.isPaged()) {
+			offsetIndex = content.flatten(sectionOrder, displayedRows, filteredRows != null, null);
+			setItems(FXCollections.observableList(new PagedSectionedListItems<>(this, content, offsetIndex, displayedRows)));
+			requestLayout();
+		}
+		else {
+			List<SectionedListItem<RawItemType>> items = new ArrayList<>(content.size() + content.numberOfSections());
+			SectionOffsetIndex previousIndex = offsetIndex;
+			displayedGridColumns = desiredGridColumns();
+			if (displayedGridColumns > 0) {
+				offsetIndex = flattenGridRows(content.flatten(sectionOrder, displayedRows, filteredRows != null, null), items);
+			}
+			else {
+				offsetIndex = content.flatten(sectionOrder, displayedRows, filteredRows != null, items);
+			}
+			if (patchingItems) {
+				patchItems(previousIndex, items);
+			}
+			else {
+				setItems(new ObservableSectionedListItems<>(items));
+			}
+		}
+		if (pinnedHeader != null) {
+			pinnedHeader.invalidateSection();
+			requestLayout();
+		}
+	}
+
+	/**
+	 * Flatten the displayed rows with the rows of the grid sections grouped
+	 * into the grid rows.
+	 * 
+	 * @param rowOffsets the offsets of the displayed sections with a row for each item
+	 * @param items the list to add the items and the grid rows into
+	 * @return the offsets of the displayed sections with a row for each grid row
+	 */
+	private SectionOffsetIndex flattenGridRows(SectionOffsetIndex rowOffsets, List<SectionedListItem<RawItemType>> items) {
+		int sections = rowOffsets.numberOfSections();
+		SectionOffsetIndex offsets = new SectionOffsetIndex(sections);
+		for (int position = 0; position < sections; position++) {
+			int section = rowOffsets.getSection(position);
+			int rows = rowOffsets.numberOfRows(position);
+			int[] rowMap = displayedRows != null ? displayedRows[section] : null;
+			if (rowOffsets.hasHeader(position)) {
+				items.add(content.getHeader(section));
+			}
+			if (!dataSource.isGridSection(section)) {
+				for (int row = 0; row < rows; row++) {
+					items.add(content.getRow(section, rowMap != null ? rowMap[row] : row));
+				}
+				offsets.append(section, rowOffsets.hasHeader(position), rows);
+				continue;
+			}
+			int gridRows = (rows + displayedGridColumns - 1) / displayedGridColumns;
+			for (int gridRow = 0; gridRow < gridRows; gridRow++) {
+				int row = gridRow * displayedGridColumns;
+				items.add(new SectionedListGridRow<>(section, rowMap != null ? rowMap[row] : row, gridRow));
+			}
+			offsets.append(section, rowOffsets.hasHeader(position), gridRows);
+		}
+		return offsets;
+	}
+
+	/**
+	 * Replace the ranges of the current items that differ from the new items.
+	 * If the same sections are displayed in the same order, each section is
+	 * patched on its own from the last one, otherwise the whole list is
+	 * patched as one range.
+	 * 
+	 * @param previousIndex the offsets of the sections in the current items
+	 * @param items the new items
+	 */
+	private void patchItems(SectionOffsetIndex previousIndex, List<SectionedListItem<RawItemType>> items) {
+		if (!(getItems() instanceof ObservableSectionedListItems)) {
+			setItems(new ObservableSectionedListItems<>(items));
+			return;
+		}
+		ObservableSectionedListItems<RawItemType> current = (ObservableSectionedListItems<RawItemType>)getItems();
+		int sections = offsetIndex.numberOfSections();
+		boolean sameSections = previousIndex.numberOfSections() == sections && previousIndex.size() == current.size();
+		for (int position = 0; sameSections && position < sections; position++) {
+			sameSections = previousIndex.getSection(position) == offsetIndex.getSection(position);
+		}
+		if (!sameSections) {
+			patchRange(current, 0, current.size(), items, 0, items.size());
+			return;
+		}
+		for (int position = sections - 1; position >= 0; position--) {
+			int from = previousIndex.getStart(position);
+			int to = position + 1 < sections ? previousIndex.getStart(position + 1) : current.size();
+			int newFrom = offsetIndex.getStart(position);
+			int newTo = position + 1 < sections ? offsetIndex.getStart(position + 1) : items.size();
+			patchRange(current, from, to, items, newFrom, newTo);
+		}
+	}
+
+	/**
+	 * Replace the range of the current items with the range of the new items.
+	 * If the ranges have the same length, only the runs of the different items
+	 * are replaced; otherwise the common items at the beginning and the end of
+	 * the ranges are kept. The items are compared by identity, so the cells of
+	 * the unchanged items are not updated.
+	 */
+	private static <T> void patchRange(ObservableSectionedListItems<T> current, int from, int to, List<SectionedListItem<T>> items, int newFrom, int newTo) {
+		if (to - from == newTo - newFrom) {
+			int offset = newFrom - from;
+			int index = from;
+			while (index < to) {
+				if (current.get(index) == items.get(index + offset)) {
+					index++;
+					continue;
+				}
+				int end = index + 1;
+				while (end < to && current.get(end) != items.get(end + offset)) {
+					end++;
+				}
+				current.replace(index, end, items.subList(index + offset, end + offset));
+				index = end;
+			}
+			return;
+		}
+		int length = Math.min(to - from, newTo - newFrom);
+		int prefix = 0;
+		while (prefix < length && current.get(from + prefix) == items.get(newFrom + prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < length - prefix && current.get(to - 1 - suffix) == items.get(newTo - 1 - suffix)) {
+			suffix++;
+		}
+		current.replace(from + prefix, to - suffix, items.subList(newFrom + prefix, newTo - suffix));
+	}
+
+	/**
+	 * Re-sort the content and select the previously selected rows again. The
+	 * selected rows are found through the permutations of the new sort, so it
+	 * takes time in proportion to the selected rows and their sections only.
+	 */
+	private void resortContent() {
+		if (incrementalReload != null || nestedContent != null) {
+			return;
+		}
+		List<IndexPath> selectedPaths = getSelectedIndexPaths(false);
+		sortContent();
+		updateItems();
+		selectIndexPaths(selectedPaths);
+	}
+
+	/**
+	 * Get the index paths of the rows selected in the selection model, and
+	 * optionally the rows selected by clicking that may be hidden now. The
+	 * items in a selected grid row are returned one by one.
+	 * 
+	 * @param clicked true to include the rows selected by clicking
+	 * @return the index paths in the data source
+	 */
+	private List<IndexPath> getSelectedIndexPaths(boolean clicked) {
+		List<IndexPath> selectedPaths = new ArrayList<>();
+		for (SectionedListItem<RawItemType> item : getSelectionModel().getSelectedItems()) {
+			if (item != null && !item.isHeaderItem()) {
+				for (SectionedListItem<RawItemType> rowItem : rowItemsOf(item)) {
+					selectedPaths.add(rowItem.getIndexPath());
+				}
+			}
+		}
+		if (clicked) {
+			for (SectionedListItem<RawItemType> item : selectedItems) {
+				selectedPaths.add(item.getIndexPath());
+			}
+		}
+		return selectedPaths;
+	}
+
+	/**
+	 * Select the displayed rows at the given index paths. The rows are found
+	 * through the permutations of the current sort, so it takes time in
+	 * proportion to the index paths and their sections only.
+	 * 
+	 * @param selectedPaths the index paths in the data source
+	 */
+	private void selectIndexPaths(List<IndexPath> selectedPaths) {
+		int count = 0;
+		int[] indices = new int[selectedPaths.size()];
+		for (IndexPath path : selectedPaths) {
+			int index = flatIndexOf(path.getSection(), path.getRow());
+			if (index >= 0) {
+				indices[count++] = index;
+			}
+		}
+		if (count > 0) {
+			getSelectionModel().selectIndices(indices[0], copyOfRange(indices, 1, count));
+		}
+	}
+
+	/**
+	 * Get the flat index of the row at the given index path of the data source.
+	 * The inverse of the sort permutation is built for a section at the first
+	 * lookup into it.
+	 * 
+	 * @param section the section index in the data source
+	 * @param row the row index in the data source
+	 * @return the flat index of the row, or -1 if the row is not displayed
+	 */
+	int flatIndexOf(int section, int row) {
+		int position = offsetIndex.positionOfDisplayedSection(section);
+		if (position < 0 || row < 0 || row >= content.numberOfRows(section)) {
+			return -1;
+		}
+		int[] rowMap = displayedRows != null ? displayedRows[section] : null;
+		if (rowMap == null) {
+			return offsetIndex.getFlatIndex(position, displayedRowOf(section, row));
+		}
+		if (inverseRows == null) {
+			inverseRows = new int[content.numberOfSections()][];
+		}
+		if (inverseRows[section] == null) {
+			int[] inverse = new int[content.numberOfRows(section)];
+			fill(inverse, -1);
+			for (int displayedRow = 0; displayedRow < rowMap.length; displayedRow++) {
+				inverse[rowMap[displayedRow]] = displayedRow;
+			}
+			inverseRows[section] = inverse;
+		}
+		int displayedRow = inverseRows[section][row];
+		return displayedRow >= 0 ? offsetIndex.getFlatIndex(position, displayedRowOf(section, displayedRow)) : -1;
+	}
+
+	/**
+	 * Get the row of the offset index that displays the row, that is, the grid
+	 * row in a grid section.
+	 */
+	private int displayedRowOf(int section, int row) {
+		return displayedGridColumns > 0 && dataSource.isGridSection(section) ? row / displayedGridColumns : row;
+	}
+
+	@Override
+	protected void layoutChildren() {
+		if (gridCellWidth > 0.0) {
+			updateGridColumns();
+		}
+		super.layoutChildren();
+		if (content.isPaged()) {
+			updateResidentSections();
+		}
+		arrangeOverlays();
+		if (pinnedHeader != null) {
+			// the canvas draws the pinned header by itself
+			if (isCanvasRenderingEnabled()) {
+				pinnedHeader.hide();
+			}
+			else {
+				layoutPinnedHeader();
+			}
+		}
+		if (sectionIndexBar != null) {
+			layoutSectionIndexBar();
+		}
+	}
+
+	/**
+	 * Update the pinned header for the section at the top of the viewport.
+	 * The top section is found by a binary search over the section offsets
+	 * with the index of the top visible cell, and the header is pushed up
+	 * when the header of the next section reaches it. The visible cells are
+	 * accessed from the {@link SectionedListViewSkin} directly, so the header
+	 * is hidden if another skin is used.
+	 */
+	void updatePinnedHeader() {
+		if (pinnedHeader == null) {
+			return;
+		}
+		SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+		int position = skin != null ? offsetIndex.positionOf(skin.getFirstVisibleIndex()) : -1;
+		if (position < 0 || !offsetIndex.hasHeader(position)) {
+			pinnedHeader.hide();
+			return;
+		}
+		pinnedHeader.showSection(offsetIndex.getSection(position));
+		double offset = 0.0;
+		int next = position + 1;
+		if (next < offsetIndex.numberOfSections() && offsetIndex.hasHeader(next)) {
+			ListCell<SectionedListItem<RawItemType>> nextHeader = skin.getVisibleCell(offsetIndex.getStart(next));
+			if (nextHeader != null) {
+				offset = Math.min(0.0, nextHeader.getLayoutY() - pinnedHeader.getHeight());
+			}
+		}
+		pinnedHeader.setTranslateY(offset);
+	}
+
+	/**
+	 * Called by the {@link SectionedListViewSkin} when the flow is scrolled.
+	 * The pinned header is unmanaged, so it is laid out again by itself after
+	 * the cells. The whole list view is laid out only if the top section or
+	 * the sections within the paging screens are changed.
+	 */
+	void flowScrolled() {
+		boolean changed = false;
+		if (pinnedHeader != null) {
+			SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+			int position = skin != null ? offsetIndex.positionOf(skin.getFirstVisibleIndex()) : -1;
+			changed = position != scrolledTopPosition;
+			scrolledTopPosition = position;
+			pinnedHeader.requestLayout();
+		}
+		if (content.isPaged()) {
+			int[] window = getPagingWindow();
+			changed |= window[0] != scrolledPagingFrom || window[1] != scrolledPagingTo;
+		}
+		if (changed) {
+			requestLayout();
+		}
+	}
+
+	/**
+	 * Load the sections within the paging screens around the viewport, and
+	 * evict the least recently displayed sections out of them while the loaded
+	 * rows exceed the budget.
+	 */
+	private void updateResidentSections() {
+		int[] window = getPagingWindow();
+		scrolledPagingFrom = window[0];
+		scrolledPagingTo = window[1];
+		boolean[] keep = new boolean[content.numberOfSections()];
+		for (int position = window[0]; position >= 0 && position <= window[1]; position++) {
+			int section = offsetIndex.getSection(position);
+			keep[section] = true;
+			content.loadSection(section);
+		}
+		content.evictSections(keep, residentRowBudget);
+	}
+
+	/**
+	 * Get the positions of the first and the last sections within the paging
+	 * screens around the viewport.
+	 * 
+	 * @return the first and the last positions, or -1 if no cell is visible
+	 */
+	private int[] getPagingWindow() {
+		int first = -1;
+		int last = -1;
+		SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+		if (skin != null) {
+			first = skin.getFirstVisibleIndex();
+			last = skin.getLastVisibleIndex();
+		}
+		else if (isCanvasRenderingEnabled()) {
+			SectionedListCanvasSkin<?> canvasSkin = (SectionedListCanvasSkin<?>)getSkin();
+			first = canvasSkin.getFirstVisibleIndex();
+			last = canvasSkin.getLastVisibleIndex();
+		}
+		if (first < 0 || last < first) {
+			return new int[] { -1, -1 };
+		}
+		int margin = (last - first + 1) * pagingScreens;
+		return new int[] { offsetIndex.positionOf(Math.max(0, first - margin)), offsetIndex.positionOf(Math.min(offsetIndex.size() - 1, last + margin)) };
+	}
+
+	/**
+	 * Keep the overlays after the flow of the list in the children, so that they
+	 * are painted above the cells and laid out after the cells. The skin may be
+	 * replaced after the overlays were added, so check them in every layout.
+	 */
+	private void arrangeOverlays() {
+		List<Node> overlays = new ArrayList<>(2);
+		if (pinnedHeader != null) {
+			overlays.add(pinnedHeader);
+		}
+		if (sectionIndexBar != null) {
+			overlays.add(sectionIndexBar);
+		}
+		List<Node> children = getChildren();
+		int offset = children.size() - overlays.size();
+		if (offset < 0 || !children.subList(offset, children.size()).equals(overlays)) {
+			children.removeAll(overlays);
+			children.addAll(overlays);
+		}
+	}
+
+	private void layoutPinnedHeader() {
+		double width = getViewportWidth();
+		pinnedHeader.resizeRelocate(snappedLeftInset(), snappedTopInset(), width, pinnedHeader.prefHeight(width));
+		// the pinned header is laid out after the cells, see PinnedSectionHeader#layoutChildren()
+		pinnedHeader.requestLayout();
+	}
+
+	private void layoutSectionIndexBar() {
+		double height = getHeight() - snappedTopInset() - snappedBottomInset();
+		double width = sectionIndexBar.prefWidth(height);
+		double x = snappedLeftInset() + Math.max(0.0, getViewportWidth() - width);
+		sectionIndexBar.resizeRelocate(x, snappedTopInset(), width, height);
+	}
+
+	private void reloadSectionIndexTitles() {
+		List<String> titles = dataSource != null ? dataSource.sectionIndexTitles() : null;
+		if (titles == null || titles.isEmpty()) {
+			titles = emptyList();
+		}
+		if (titles.equals(sectionIndexTitles)) {
+			return;
+		}
+		// keep a copy so that the titles changed in place by the data source are still noticed
+		sectionIndexTitles = titles.isEmpty() ? titles : new ArrayList<>(titles);
+		if (sectionIndexBar != null) {
+			sectionIndexBar.setTitles(sectionIndexTitles);
+		}
+	}
+
+	/**
+	 * Get the width of the viewport (the width of the displayed cells) so that
+	 * the overlays do not cover the vertical scroll bar.
+	 * 
+	 * @return the width of the viewport
+	 */
+	private double getViewportWidth() {
+		if (isCanvasRenderingEnabled()) {
+			return ((SectionedListCanvasSkin<?>)getSkin()).getViewportWidth();
+		}
+		SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+		return skin != null ? skin.getViewportWidth() : getWidth() - snappedLeftInset() - snappedRightInset();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void updateSelectedItemsOnClick(MouseEvent event) {
+		if (event.getSource() instanceof ListCell) {
+			ListCell<SectionedListItem<RawItemType>> cell = (ListCell<SectionedListItem<RawItemType>>)event.getSource();
+			toggleSelectedItem(cell.getItem());
+		}
+	}
+
+	/**
+	 * Toggle the clicked item in the selected items that are recovered after
+	 * reloading.
+	 * 
+	 * @param clickedItem the clicked item
+	 */
+	void toggleSelectedItem(SectionedListItem<RawItemType> clickedItem) {
+		if(clickedItem == null || clickedItem.isHeaderItem()) {
+			return;
+		}
+		
+		// the items in a grid row are kept one by one, so that they are found
+		// again after the rows are grouped into other grid rows
+		List<SectionedListItem<RawItemType>> clickedItems = rowItemsOf(clickedItem);
+		List<SectionedListItem<RawItemType>> toRemoved = new ArrayList<>();
+		for(SectionedListItem<RawItemType> item : selectedItems) {
+			for(SectionedListItem<RawItemType> clicked : clickedItems) {
+				if(item.getRawItem() != null && item.getRawItem().equals(clicked.getRawItem())) {
+					toRemoved.add(item);
+					break;
+				}
+			}
+		}
+		
+		if(!toRemoved.isEmpty()) {
+			selectedItems.removeAll(toRemoved);
+		}
+		else {
+			selectedItems.addAll(clickedItems);
+		}
+	}
+
+	/**
+	 * Get the row items of the item: the items in the grid row for a grid row,
+	 * or the item itself for the other items.
+	 * 
+	 * @param item the displayed item
+	 * @return the row items
+	 */
+	@SuppressWarnings("unchecked")
+	private List<SectionedListItem<RawItemType>> rowItemsOf(SectionedListItem<RawItemType> item) {
+		return item instanceof SectionedListGridRow ? getGridRowItems((SectionedListGridRow<RawItemType>)item) : singletonList(item);
+	}
+
+	/**
+	 * Get whether the displayed item or one of the items in the displayed
+	 * grid row has the raw item.
+	 * 
+	 * @param item the displayed item
+	 * @param rawItem the raw item; can be null
+	 * @return true if the raw item is found
+	 */
+	private boolean hasRawItem(SectionedListItem<RawItemType> item, RawItemType rawItem) {
+		if (rawItem == null) {
+			return false;
+		}
+		if (item instanceof SectionedListGridRow) {
+			for (SectionedListItem<RawItemType> rowItem : rowItemsOf(item)) {
+				if (rawItem.equals(rowItem.getRawItem())) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return rawItem.equals(item.getRawItem());
+	}
+
+	/**
+	 * Get the offsets of the displayed sections.
+	 * 
+	 * @return the section offset index
+	 */
+	SectionOffsetIndex getOffsetIndex() {
+		return offsetIndex;
+	}
+
+	/**
+	 * Get the pool of the detached cells used by the list view.
+	 * 
+	 * @return the cell pool
+	 */
+	public SectionedListCellPool getCellPool() {
+		return cellPool;
+	}
+
+	/**
+	 * Build the cells in the idle time after the list view is shown, so that
+	 * the first fast scroll does not create the cells while the user watches.
+	 * The number of the cells for each class of the raw items and for the
+	 * headers is estimated from the height of the viewport and the height of
+	 * the first built cell.
+	 * 
+	 * @see #prewarmCells(int, int)
+	 */
+	public void prewarmCells() {
+		prewarmCells(-1, -1);
+	}
+
+	/**
+	 * Build the cells in the idle time after the list view is shown, until the
+	 * pool has the given number of the detached cells for each class of the
+	 * raw items near the viewport, and the given number of the detached header
+	 * cells. The cells are built and processed with CSS for at most
+	 * {@value #PrewarmBudget} milliseconds in each pulse, and kept in the
+	 * {@link #getCellPool()} to be reused. Building stops when the pool is full.
+	 * 
+	 * @param rowsPerItemClass the number of the row cells for each class of the raw items; negative to estimate from the viewport
+	 * @param headers the number of the header cells; negative to estimate from the viewport
+	 */
+	public void prewarmCells(int rowsPerItemClass, int headers) {
+		cancelCellPrewarming();
+		cellPrewarming = new CellPrewarming(rowsPerItemClass, headers);
+		cellPrewarming.start();
+	}
+
+	/**
+	 * Stop building the cells started by {@link #prewarmCells(int, int)}. The
+	 * built cells are kept in the pool.
+	 */
+	public void cancelCellPrewarming() {
+		if (cellPrewarming != null) {
+			cellPrewarming.stop();
+			cellPrewarming = null;
+		}
+	}
+
+	/**
+	 * Get whether the cells are being built by {@link #prewarmCells(int, int)}.
+	 * 
+	 * @return true if the cells are being built
+	 */
+	public boolean isPrewarmingCells() {
+		return cellPrewarming != null;
+	}
+
+	void enqueueReusableCell(RawItemType item, Node cell) {
+		cellPool.addRowCell(getSectionedListViewCellFactory(), item.getClass(), cell);
+	}
+
+	void enqueueReusableHeader(Node cell) {
+		cellPool.addHeader(getSectionedListViewCellFactory(), cell);
+	}
+
+	/**
+	 * Take a detached row cell for the class of the item from the pool.
+	 * 
+	 * @param item the raw item to display
+	 * @return the reusable cell, or null if the pool has none
+	 */
+	Node dequeueReusableCell(RawItemType item) {
+		return cellPool.takeRowCell(getSectionedListViewCellFactory(), item.getClass());
+	}
+
+	/**
+	 * Take a detached header from the pool.
+	 * 
+	 * @return the reusable header, or null if the pool has none
+	 */
+	Node dequeueReusableHeader() {
+		return cellPool.takeHeader(getSectionedListViewCellFactory());
+	}
+
+	/**
+	 * Recover the selectedItems to the selection model.
+	 */
+	protected void recoverSelectionModel() {
+		ObservableList<SectionedListItem<RawItemType>> currentItems = getItems();
+		if (content.isPaged()) {
+			// look up the index paths only, so that the other sections are not loaded
+			for(SectionedListItem<RawItemType> item : selectedItems) {
+				IndexPath path = item.getIndexPath();
+				int index = flatIndexOf(path.getSection(), path.getRow());
+				if(index >= 0 && item.getRawItem() != null && item.getRawItem().equals(currentItems.get(index).getRawItem())) {
+					getSelectionModel().select(index);
+				}
+			}
+			return;
+		}
+		// the items in a grid row are selected by the grid row that has them now
+		for(SectionedListItem<RawItemType> item : selectedItems) {
+			for(int index = 0; index < currentItems.size(); index++) {
+				if(hasRawItem(currentItems.get(index), item.getRawItem())) {
+					getSelectionModel().select(index);
+					break;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * reset the selectedItems according to new all items.
+	 */
+	protected void updateSelectedItemsList() {
+		ObservableList<SectionedListItem<RawItemType>> newSelectedItemList = FXCollections.observableArrayList();
+		for(SectionedListItem<RawItemType> selectedItem : selectedItems) {
+			for(SectionedListItem<RawItemType> currentItem: getItems()) {
+				if(hasRawItem(currentItem, selectedItem.getRawItem())){
+					for(SectionedListItem<RawItemType> rowItem : rowItemsOf(currentItem)) {
+						if(selectedItem.getRawItem().equals(rowItem.getRawItem())) {
+							newSelectedItemList.add(rowItem);
+						}
+					}
+				}
+			}
+		}
+		selectedItems.clear();
+		selectedItems = newSelectedItemList;
+	}
+
+	/**
+	 * This timer builds the cells into the pool in each pulse for
+	 * {@link SectionedListView#prewarmCells(int, int)} once the list view is
+	 * shown.
+	 */
+	private class CellPrewarming extends AnimationTimer {
+
+		private final int rowTarget;
+		private final int headerTarget;
+		private List<SectionedListItem<RawItemType>> samples;
+		private int[] targets;
+		private int current;
+		private int built;
+		private ListCell<SectionedListItem<RawItemType>> cell;
+
+		private CellPrewarming(int rowsPerItemClass, int headers) {
+			rowTarget = rowsPerItemClass;
+			headerTarget = headers;
+		}
+
+		@Override
+		public void handle(long now) {
+			if (getScene() == null || getScene().getWindow() == null || !getScene().getWindow().isShowing() || getSkin() == null) {
+				// wait until the list view is shown
+				return;
+			}
+			if (samples == null) {
+				collectSamples();
+			}
+			long deadline = System.nanoTime() + PrewarmBudget * 1000000L;
+			do {
+				if (!buildNext()) {
+					cancelCellPrewarming();
+					return;
+				}
+			} while (System.nanoTime() < deadline);
+		}
+
+		/**
+		 * Collect a header item and an item of each class of the raw items from
+		 * the items near the viewport.
+		 */
+		private void collectSamples() {
+			samples = new ArrayList<>();
+			cell = new SectionedListCellContainer<>(SectionedListView.this);
+			if (isCanvasRenderingEnabled()) {
+				return;
+			}
+			SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+			ObservableList<SectionedListItem<RawItemType>> items = getItems();
+			int from = skin != null ? Math.max(0, skin.getFirstVisibleIndex()) : 0;
+			int to = items != null ? Math.min(items.size(), from + PrewarmSampleItems) : 0;
+			Set<Class<?>> classes = new HashSet<>();
+			boolean header = false;
+			for (int index = from; index < to; index++) {
+				SectionedListItem<RawItemType> item = items.get(index);
+				if (item.isHeaderItem()) {
+					if (!header) {
+						header = true;
+						samples.add(0, item);
+					}
+					continue;
+				}
+				List<SectionedListItem<RawItemType>> rows = item instanceof SectionedListGridRow ? getGridRowItems((SectionedListGridRow<RawItemType>)item) : singletonList(item);
+				for (SectionedListItem<RawItemType> row : rows) {
+					if (row != null && row.getRawItem() != null && classes.add(row.getRawItem().getClass())) {
+						samples.add(row);
+					}
+				}
+			}
+			targets = new int[samples.size()];
+			for (int sample = 0; sample < targets.length; sample++) {
+				targets[sample] = samples.get(sample).isHeaderItem() ? headerTarget : rowTarget;
+			}
+		}
+
+		/**
+		 * Build a cell for the current sample if the pool does not have enough
+		 * detached cells for it.
+		 * 
+		 * @return false if no more cell needs to be built
+		 */
+		private boolean buildNext() {
+			SectionedListViewCellFactory<RawItemType, ?, ?> factory = getSectionedListViewCellFactory();
+			while (current < samples.size()) {
+				if (cellPool.size() >= cellPool.getCapacity() || built >= cellPool.getCapacity()) {
+					return false;
+				}
+				SectionedListItem<RawItemType> item = samples.get(current);
+				int count = item.isHeaderItem() ? cellPool.countHeaders(factory) : cellPool.countRowCells(factory, item.getRawItem().getClass());
+				if (targets[current] >= 0 && count >= targets[current]) {
+					current++;
+					continue;
+				}
+				Node node;
+				if (item.isHeaderItem()) {
+					node = factory.getSectionHeader(cell, item.getIndexPath().getSection(), getSectionTitle(item.getIndexPath()));
+					cellPool.addHeader(factory, node);
+				}
+				else {
+					node = factory.getRowCell(cell, item.getIndexPath(), item.getRawItem());
+					cellPool.addRowCell(factory, item.getRawItem().getClass(), node);
+				}
+				processCss(node);
+				built++;
+				if (targets[current] < 0) {
+					targets[current] = estimateCount(node, item.isHeaderItem());
+				}
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Let the skin apply the CSS to the node and lay it out. The node is
+		 * kept by the pool when it is detached again.
+		 */
+		private void processCss(Node node) {
+			SectionedListViewSkin<RawItemType> skin = getSectionedListViewSkin();
+			if (skin != null) {
+				skin.processCss(node);
+			}
+		}
+
+		/**
+		 * Estimate the number of the cells shown on one screen.
+		 */
+		private int estimateCount(Node node, boolean header) {
+			double height = Math.max(1.0, node.prefHeight(getViewportWidth()));
+			int count = (int)Math.ceil(getHeight() / height);
+			return header ? count : count * Math.max(1, displayedGridColumns);
+		}
+	}
+
+	/**
+	 * This timer loads the next chunk of the rows in each pulse for
+	 * {@link SectionedListView#reloadDataIncrementally()}.
+	 */
+	private class IncrementalReload extends AnimationTimer {
+
+		private final Set<RawItemType> selection;
+		private final List<SectionedListItem<RawItemType>> chunk;
+
+		private IncrementalReload(Set<RawItemType> selectedItems) {
+			selection = selectedItems;
+			chunk = new ArrayList<>();
+		}
+
+		@Override
+		public void handle(long now) {
+			long deadline = System.nanoTime() + incrementalReloadBudget * 1000000L;
+			boolean done = content.loadNext(dataSource, deadline, chunk, offsetIndex);
+			getItems().addAll(chunk);
+			chunk.clear();
+			reloadProgress.set(content.loadedRatio());
+			if (done) {
+				stopIncrementalReload();
+				finish();
+			}
+		}
+
+		/**
+		 * Apply the filter, the search text and the comparators to the loaded
+		 * content, select the previously selected rows again, and group the
+		 * rows into the grid rows.
+		 */
+		private void finish() {
+			reloadProgress.set(1.0);
+			if (filter != null || searchText != null || rowComparator != null || sectionComparator != null) {
+				applyFilter(false, false);
+			}
+			else {
+				recoverSelectionModel();
+			}
+			selectRawItems(selection);
+			// the rows are grouped into the grid rows only after they are all loaded
+			updateGridColumns();
 		}
-		selectedItems.clear();
-		selectedItems = newSelectedItemList;
 	}
 }
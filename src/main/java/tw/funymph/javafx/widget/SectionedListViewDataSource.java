@@ -24,6 +24,10 @@
  */
 package tw.funymph.javafx.widget;
 
+import static java.util.Collections.emptyList;
+
+import java.util.List;
+
 /**
  * This interface defines the data source for the {@link SectionedListView}.
  * 
@@ -71,4 +75,65 @@ public interface SectionedListViewDataSource<RawItemType> {
 	 * @return the item of the row
 	 */
 	public RawItemType getItem(IndexPath path);
+
+	/**
+	 * Get the titles displayed in the section index bar of the list view, for
+	 * example, from "A" to "Z". The default implementation returns an empty
+	 * list that means the data source does not provide the section index.
+	 * 
+	 * @return the titles of the section index
+	 */
+	public default List<String> sectionIndexTitles() {
+		return emptyList();
+	}
+
+	/**
+	 * Get the section that the list view should jump to when the user touches
+	 * the title in the section index bar. The default implementation maps the
+	 * title at index <code>i</code> to the section <code>i</code>. If the result
+	 * section does not exist, the list view jumps to the nearest following
+	 * section.
+	 * 
+	 * @param title the title of the section index
+	 * @param index the index of the title in {@link #sectionIndexTitles()}
+	 * @return the section index; starting from 0
+	 */
+	public default int sectionForSectionIndexTitle(String title, int index) {
+		return index;
+	}
+
+	/**
+	 * Get whether the rows of the section are laid out as a grid when the grid
+	 * layout of the list view is enabled by {@link SectionedListView#setGridColumns(int)}
+	 * or {@link SectionedListView#setGridCellWidth(double)}. The default
+	 * implementation lays out all the sections as grids.
+	 * 
+	 * @param section the section index; starting from 0
+	 * @return true if the rows of the section are laid out as a grid
+	 */
+	public default boolean isGridSection(int section) {
+		return true;
+	}
+
+	/**
+	 * Add the listener to be notified when the sections or the rows of the
+	 * data source are changed. The {@link SectionedListView} adds itself when
+	 * the data source is set. The default implementation does nothing, that
+	 * means the data source never notifies the changes and the list view must
+	 * be reloaded by {@link SectionedListView#reloadData()}.
+	 * 
+	 * @param listener the listener to add
+	 * @see SectionedListViewDataSourceSupport
+	 */
+	public default void addDataSourceListener(SectionedListViewDataSourceListener listener) {
+	}
+
+	/**
+	 * Remove the listener added by {@link #addDataSourceListener(SectionedListViewDataSourceListener)}.
+	 * The default implementation does nothing.
+	 * 
+	 * @param listener the listener to remove
+	 */
+	public default void removeDataSourceListener(SectionedListViewDataSourceListener listener) {
+	}
 }
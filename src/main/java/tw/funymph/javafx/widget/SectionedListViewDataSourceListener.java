@@ -0,0 +1,95 @@
+/* SectionedListViewDataSourceListener.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+/**
+ * This interface defines the listener that a {@link SectionedListViewDataSource}
+ * notifies when its sections or rows are changed. The ranges are given with
+ * the indices after the change, where the start is inclusive and the end is
+ * exclusive. The methods can be called in any thread; the {@link SectionedListView}
+ * merges the notifications and applies them in the JavaFX application thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public interface SectionedListViewDataSourceListener {
+
+	/**
+	 * The items of the rows in the range are replaced.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first changed row
+	 * @param toRow the row after the last changed row
+	 */
+	public void rowsChanged(int section, int fromRow, int toRow);
+
+	/**
+	 * The rows in the range are inserted into the section.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first inserted row
+	 * @param toRow the row after the last inserted row
+	 */
+	public void rowsInserted(int section, int fromRow, int toRow);
+
+	/**
+	 * The rows in the range are removed from the section.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first removed row
+	 * @param toRow the row after the last removed row
+	 */
+	public void rowsRemoved(int section, int fromRow, int toRow);
+
+	/**
+	 * The titles or the header flags of the sections in the range are changed.
+	 * 
+	 * @param fromSection the first changed section
+	 * @param toSection the section after the last changed section
+	 */
+	public void sectionsChanged(int fromSection, int toSection);
+
+	/**
+	 * The sections in the range are inserted.
+	 * 
+	 * @param fromSection the first inserted section
+	 * @param toSection the section after the last inserted section
+	 */
+	public void sectionsInserted(int fromSection, int toSection);
+
+	/**
+	 * The sections in the range are removed.
+	 * 
+	 * @param fromSection the first removed section
+	 * @param toSection the section after the last removed section
+	 */
+	public void sectionsRemoved(int fromSection, int toSection);
+
+	/**
+	 * Everything in the data source may be changed.
+	 */
+	public void dataChanged();
+}
@@ -0,0 +1,135 @@
+/* SectionedListViewDataSourceSupport.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * This class helps a {@link SectionedListViewDataSource} to keep its listeners
+ * and notify them, like {@link java.beans.PropertyChangeSupport}. A data source
+ * can delegate {@link SectionedListViewDataSource#addDataSourceListener(SectionedListViewDataSourceListener)}
+ * and {@link SectionedListViewDataSource#removeDataSourceListener(SectionedListViewDataSourceListener)}
+ * to an instance of this class, and call the fire methods after it changes.
+ * The listeners can be added, removed and notified in any thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListViewDataSourceSupport {
+
+	private final List<SectionedListViewDataSourceListener> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Add the listener.
+	 * 
+	 * @param listener the listener to add
+	 */
+	public void addDataSourceListener(SectionedListViewDataSourceListener listener) {
+		if (listener != null) {
+			listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Remove the listener.
+	 * 
+	 * @param listener the listener to remove
+	 */
+	public void removeDataSourceListener(SectionedListViewDataSourceListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Notify the listeners that the rows are replaced.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first changed row
+	 * @param toRow the row after the last changed row
+	 */
+	public void fireRowsChanged(int section, int fromRow, int toRow) {
+		listeners.forEach(listener -> listener.rowsChanged(section, fromRow, toRow));
+	}
+
+	/**
+	 * Notify the listeners that the rows are inserted.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first inserted row
+	 * @param toRow the row after the last inserted row
+	 */
+	public void fireRowsInserted(int section, int fromRow, int toRow) {
+		listeners.forEach(listener -> listener.rowsInserted(section, fromRow, toRow));
+	}
+
+	/**
+	 * Notify the listeners that the rows are removed.
+	 * 
+	 * @param section the section index
+	 * @param fromRow the first removed row
+	 * @param toRow the row after the last removed row
+	 */
+	public void fireRowsRemoved(int section, int fromRow, int toRow) {
+		listeners.forEach(listener -> listener.rowsRemoved(section, fromRow, toRow));
+	}
+
+	/**
+	 * Notify the listeners that the sections are changed.
+	 * 
+	 * @param fromSection the first changed section
+	 * @param toSection the section after the last changed section
+	 */
+	public void fireSectionsChanged(int fromSection, int toSection) {
+		listeners.forEach(listener -> listener.sectionsChanged(fromSection, toSection));
+	}
+
+	/**
+	 * Notify the listeners that the sections are inserted.
+	 * 
+	 * @param fromSection the first inserted section
+	 * @param toSection the section after the last inserted section
+	 */
+	public void fireSectionsInserted(int fromSection, int toSection) {
+		listeners.forEach(listener -> listener.sectionsInserted(fromSection, toSection));
+	}
+
+	/**
+	 * Notify the listeners that the sections are removed.
+	 * 
+	 * @param fromSection the first removed section
+	 * @param toSection the section after the last removed section
+	 */
+	public void fireSectionsRemoved(int fromSection, int toSection) {
+		listeners.forEach(listener -> listener.sectionsRemoved(fromSection, toSection));
+	}
+
+	/**
+	 * Notify the listeners that everything may be changed.
+	 */
+	public void fireDataChanged() {
+		listeners.forEach(SectionedListViewDataSourceListener::dataChanged);
+	}
+}
@@ -0,0 +1,214 @@
+/* SectionedListViewSkin.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import com.sun.javafx.scene.control.skin.ListViewSkin;
+import com.sun.javafx.scene.control.skin.VirtualFlow;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.ListCell;
+
+/**
+ * This class provides the default skin of the {@link SectionedListView}. It
+ * is built on the {@link VirtualFlow} of the {@link ListViewSkin} and set up
+ * for the sectioned content:
+ * <ul>
+ * <li>The cells never ask for more width than the viewport, so the horizontal
+ * scroll bar never shows up and no look-up is needed to hide it.</li>
+ * <li>If the list view has uniform cell heights, the height of the headers and
+ * the height of the rows are measured once and shared by all cells.</li>
+ * <li>The visible cells are accessed from the flow directly, so that the
+ * features like the pinned header do not walk through the cells or the items.</li>
+ * </ul>
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListViewSkin<RawItemType> extends ListViewSkin<SectionedListItem<RawItemType>> {
+
+	private static final double UnknownHeight = -1.0;
+
+	private double rowHeight;
+	private double headerHeight;
+	private SectionedListView<RawItemType> listView;
+	private Group offscreenCells;
+
+	private final InvalidationListener positionListener = observable -> listView.flowScrolled();
+
+	/**
+	 * Construct a <code>SectionedListViewSkin</code> instance for the
+	 * sectioned list view.
+	 * 
+	 * @param listView the list view
+	 */
+	public SectionedListViewSkin(SectionedListView<RawItemType> listView) {
+		super(listView);
+		this.listView = listView;
+		invalidateCellHeights();
+		// the pinned header and the paged sections follow the scroll position of the flow
+		flow.positionProperty().addListener(positionListener);
+	}
+
+	@Override
+	public ListCell<SectionedListItem<RawItemType>> createCell() {
+		ListCell<SectionedListItem<RawItemType>> cell = super.createCell();
+		// the flow shows the horizontal scroll bar only if a cell is wider than the viewport
+		cell.setPrefWidth(0.0);
+		return cell;
+	}
+
+	/**
+	 * Get the cell at the top of the viewport, which may be partially visible.
+	 * 
+	 * @return the top cell, or null if there is no visible cell
+	 */
+	public ListCell<SectionedListItem<RawItemType>> getFirstVisibleCell() {
+		ListCell<SectionedListItem<RawItemType>> cell = flow.getFirstVisibleCell();
+		return cell != null && !cell.isEmpty() ? cell : null;
+	}
+
+	/**
+	 * Get the cell at the bottom of the viewport, which may be partially visible.
+	 * 
+	 * @return the bottom cell, or null if there is no visible cell
+	 */
+	public ListCell<SectionedListItem<RawItemType>> getLastVisibleCell() {
+		ListCell<SectionedListItem<RawItemType>> cell = flow.getLastVisibleCell();
+		return cell != null && !cell.isEmpty() ? cell : null;
+	}
+
+	/**
+	 * Get the flat index of the item at the top of the viewport.
+	 * 
+	 * @return the flat index, or -1 if there is no visible cell
+	 */
+	public int getFirstVisibleIndex() {
+		ListCell<SectionedListItem<RawItemType>> cell = getFirstVisibleCell();
+		return cell != null ? cell.getIndex() : -1;
+	}
+
+	/**
+	 * Get the flat index of the item at the bottom of the viewport.
+	 * 
+	 * @return the flat index, or -1 if there is no visible cell
+	 */
+	public int getLastVisibleIndex() {
+		ListCell<SectionedListItem<RawItemType>> cell = getLastVisibleCell();
+		return cell != null ? cell.getIndex() : -1;
+	}
+
+	/**
+	 * Get the visible cell of the item at the given flat index.
+	 * 
+	 * @param index the flat index
+	 * @return the cell, or null if the item is not visible
+	 */
+	public ListCell<SectionedListItem<RawItemType>> getVisibleCell(int index) {
+		ListCell<SectionedListItem<RawItemType>> cell = flow.getVisibleCell(index);
+		return cell != null && cell.getIndex() == index && !cell.isEmpty() ? cell : null;
+	}
+
+	/**
+	 * Get the width of the viewport, i.e. the width of the visible cells.
+	 * 
+	 * @return the width of the viewport
+	 */
+	public double getViewportWidth() {
+		ListCell<SectionedListItem<RawItemType>> cell = flow.getFirstVisibleCell();
+		return cell != null ? cell.getWidth() : flow.getWidth();
+	}
+
+	@Override
+	public void dispose() {
+		flow.positionProperty().removeListener(positionListener);
+		super.dispose();
+	}
+
+	/**
+	 * Apply the CSS to the cell built ahead of time and lay it out, so that it
+	 * is styled like the cells in the list view. The cell is attached to a
+	 * hidden and unmanaged group of the skin for a moment, so neither the
+	 * layout of the flow nor the focus traversal sees it.
+	 * 
+	 * @param cell the cell built by the cell factory
+	 */
+	void processCss(Node cell) {
+		if (offscreenCells == null) {
+			offscreenCells = new Group();
+			offscreenCells.setManaged(false);
+			offscreenCells.setVisible(false);
+			offscreenCells.setMouseTransparent(true);
+		}
+		if (offscreenCells.getParent() == null) {
+			getChildren().add(0, offscreenCells);
+		}
+		offscreenCells.getChildren().add(cell);
+		cell.applyCss();
+		cell.autosize();
+		if (cell instanceof Parent) {
+			((Parent)cell).layout();
+		}
+		offscreenCells.getChildren().remove(cell);
+	}
+
+	/**
+	 * Forget the measured heights of the headers and the rows, e.g. the cell
+	 * factory or the style is changed.
+	 */
+	void invalidateCellHeights() {
+		rowHeight = UnknownHeight;
+		headerHeight = UnknownHeight;
+	}
+
+	/**
+	 * Get the height shared by the cells of the given kind.
+	 * 
+	 * @param header true for the header cells
+	 * @return the shared height, or a negative value if not measured yet
+	 */
+	double getCellHeight(boolean header) {
+		return header ? headerHeight : rowHeight;
+	}
+
+	/**
+	 * Set the height shared by the cells of the given kind, which is measured
+	 * from the first cell of the kind.
+	 * 
+	 * @param header true for the header cells
+	 * @param height the measured height
+	 */
+	void setCellHeight(boolean header, double height) {
+		if (header) {
+			headerHeight = height;
+		}
+		else {
+			rowHeight = height;
+		}
+	}
+}
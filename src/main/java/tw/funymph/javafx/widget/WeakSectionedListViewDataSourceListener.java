@@ -0,0 +1,125 @@
+/* WeakSectionedListViewDataSourceListener.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * This internal class registers a {@link SectionedListViewDataSourceListener}
+ * to a data source through a weak reference, like the weak listeners of
+ * JavaFX, so that a long-lived data source does not keep the list view that
+ * is no longer used. After the listener is garbage collected, the wrapper
+ * removes itself from the data source at the next notification.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class WeakSectionedListViewDataSourceListener implements SectionedListViewDataSourceListener {
+
+	private final WeakReference<SectionedListViewDataSourceListener> listener;
+	private final SectionedListViewDataSource<?> dataSource;
+
+	/**
+	 * Construct a <code>WeakSectionedListViewDataSourceListener</code> instance.
+	 * 
+	 * @param listener the listener to notify; must be kept by its owner
+	 * @param dataSource the data source that the wrapper is added to
+	 */
+	WeakSectionedListViewDataSourceListener(SectionedListViewDataSourceListener listener, SectionedListViewDataSource<?> dataSource) {
+		this.listener = new WeakReference<>(listener);
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public void rowsChanged(int section, int fromRow, int toRow) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.rowsChanged(section, fromRow, toRow);
+		}
+	}
+
+	@Override
+	public void rowsInserted(int section, int fromRow, int toRow) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.rowsInserted(section, fromRow, toRow);
+		}
+	}
+
+	@Override
+	public void rowsRemoved(int section, int fromRow, int toRow) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.rowsRemoved(section, fromRow, toRow);
+		}
+	}
+
+	@Override
+	public void sectionsChanged(int fromSection, int toSection) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.sectionsChanged(fromSection, toSection);
+		}
+	}
+
+	@Override
+	public void sectionsInserted(int fromSection, int toSection) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.sectionsInserted(fromSection, toSection);
+		}
+	}
+
+	@Override
+	public void sectionsRemoved(int fromSection, int toSection) {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.sectionsRemoved(fromSection, toSection);
+		}
+	}
+
+	@Override
+	public void dataChanged() {
+		SectionedListViewDataSourceListener target = getListener();
+		if (target != null) {
+			target.dataChanged();
+		}
+	}
+
+	/**
+	 * Get the listener, or remove the wrapper from the data source if the
+	 * listener is garbage collected.
+	 * 
+	 * @return the listener, or null if garbage collected
+	 */
+	private SectionedListViewDataSourceListener getListener() {
+		SectionedListViewDataSourceListener target = listener.get();
+		if (target == null) {
+			dataSource.removeDataSourceListener(this);
+		}
+		return target;
+	}
+}
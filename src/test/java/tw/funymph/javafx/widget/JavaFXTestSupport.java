@@ -0,0 +1,168 @@
+/* JavaFXTestSupport.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import com.sun.javafx.application.PlatformImpl;
+
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+/**
+ * This class starts the JavaFX toolkit for the tests and runs the test code
+ * in the JavaFX application thread. On a machine without a display, the
+ * toolkit can run on the headless Monocle platform by running the tests with
+ * <code>-Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw</code>
+ * and the Monocle jar in the class path.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+final class JavaFXTestSupport {
+
+	/**
+	 * The maximum number of seconds to wait for the JavaFX application thread.
+	 */
+	static final long Timeout = 30;
+
+	private static boolean started;
+
+	private JavaFXTestSupport() {}
+
+	/**
+	 * Start the JavaFX toolkit if it is not started yet. The toolkit keeps
+	 * running after the last stage is closed, so that it can be shared by all
+	 * the tests.
+	 * 
+	 * @throws Exception if the toolkit is not started in time
+	 */
+	static synchronized void startToolkit() throws Exception {
+		if (started) {
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			PlatformImpl.startup(latch::countDown);
+		}
+		catch (IllegalStateException e) {
+			// started by another test runner in the same virtual machine
+			latch.countDown();
+		}
+		if (!latch.await(Timeout, SECONDS)) {
+			throw new IllegalStateException("the JavaFX toolkit is not started");
+		}
+		Platform.setImplicitExit(false);
+		started = true;
+	}
+
+	/**
+	 * Run the task in the JavaFX application thread and wait for it.
+	 * 
+	 * @param task the task to run
+	 * @throws Exception the exception thrown by the task
+	 */
+	static void runOnFxThread(Runnable task) throws Exception {
+		callOnFxThread(() -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Call the task in the JavaFX application thread and wait for its result.
+	 * The error or the exception thrown by the task, e.g. a failed assertion,
+	 * is thrown again in the calling thread.
+	 * 
+	 * @param task the task to call
+	 * @return the result of the task
+	 * @throws Exception the exception thrown by the task
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T callOnFxThread(Callable<T> task) throws Exception {
+		if (Platform.isFxApplicationThread()) {
+			return task.call();
+		}
+		Object[] result = new Object[1];
+		Throwable[] failure = new Throwable[1];
+		CountDownLatch latch = new CountDownLatch(1);
+		Platform.runLater(() -> {
+			try {
+				result[0] = task.call();
+			}
+			catch (Throwable e) {
+				failure[0] = e;
+			}
+			finally {
+				latch.countDown();
+			}
+		});
+		if (!latch.await(Timeout, SECONDS)) {
+			throw new IllegalStateException("the JavaFX application thread does not respond");
+		}
+		if (failure[0] instanceof Error) {
+			throw (Error)failure[0];
+		}
+		if (failure[0] != null) {
+			throw (Exception)failure[0];
+		}
+		return (T)result[0];
+	}
+
+	/**
+	 * Show the root in a new stage and lay it out. Must be called in the
+	 * JavaFX application thread.
+	 * 
+	 * @param root the root of the scene
+	 * @param width the width of the scene
+	 * @param height the height of the scene
+	 * @return the shown stage
+	 */
+	static Stage show(Parent root, double width, double height) {
+		Stage stage = new Stage();
+		stage.setScene(new Scene(root, width, height));
+		stage.show();
+		layout(root);
+		return stage;
+	}
+
+	/**
+	 * Apply the CSS and lay out the root now instead of waiting for the next
+	 * pulse, so that the visible cells are updated. Must be called in the
+	 * JavaFX application thread.
+	 * 
+	 * @param root the root to lay out
+	 */
+	static void layout(Parent root) {
+		root.applyCss();
+		root.layout();
+	}
+}
@@ -0,0 +1,135 @@
+/* PersistentVectorTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The tests of the {@link PersistentVector} and the structure shared by the
+ * edited {@link SectionedListSnapshot}s.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class PersistentVectorTests {
+
+	private static final int Width = 32;
+
+	@Test
+	public void testSliceFromStart() {
+		PersistentVector<Integer> vector = vectorOf(40000);
+		Random random = new Random(1);
+		for (int round = 0; round < 200; round++) {
+			int count = round < 100 ? random.nextInt(vector.size() + 1) : random.nextInt(3 * Width);
+			PersistentVector<Integer> slice = vector.slice(0, count);
+			assertEquals(count, slice.size());
+			for (int index = 0; index < count; index++) {
+				assertEquals(index, (int)slice.get(index));
+			}
+			// the full arrays before the last element are shared
+			for (int index = 0; index < ((count - 1) / Width) * Width; index += Width) {
+				assertSame(vector.leafOf(index), slice.leafOf(index));
+			}
+			// the trimmed vector grows like any other vector
+			for (int index = count; index < count + 2000; index++) {
+				slice = slice.add(-index);
+			}
+			for (int index = 0; index < slice.size(); index++) {
+				assertEquals(index < count ? index : -index, (int)slice.get(index));
+			}
+		}
+	}
+
+	@Test
+	public void testSliceInTheMiddle() {
+		PersistentVector<Integer> vector = vectorOf(1000);
+		PersistentVector<Integer> slice = vector.slice(100, 700);
+		assertEquals(600, slice.size());
+		for (int index = 0; index < slice.size(); index++) {
+			assertEquals(index + 100, (int)slice.get(index));
+		}
+	}
+
+	@Test
+	public void testRandomEditsOfSnapshot() {
+		Random random = new Random(2);
+		List<Integer> expected = new ArrayList<>();
+		SectionedListSnapshot<Integer> snapshot = SectionedListSnapshot.<Integer>empty().withSection("Rows", false);
+		for (int step = 0; step < 5000; step++) {
+			int choice = random.nextInt(4);
+			if (choice == 0 || expected.isEmpty()) {
+				int row = random.nextInt(expected.size() + 1);
+				expected.add(row, step);
+				snapshot = snapshot.withRowInserted(0, row, step);
+			}
+			else if (choice == 1) {
+				int row = random.nextInt(expected.size());
+				expected.remove(row);
+				snapshot = snapshot.withoutRow(0, row);
+			}
+			else {
+				expected.add(step);
+				snapshot = snapshot.withRow(0, step);
+			}
+		}
+		assertEquals(expected.size(), snapshot.numberOfRowsInSection(0));
+		for (int row = 0; row < expected.size(); row++) {
+			assertEquals(expected.get(row), snapshot.getItem(new ImmutableIndexPath(0, row)));
+		}
+	}
+
+	@Test
+	public void testInsertedRowSharesPrefix() {
+		SectionedListSnapshot<Integer> snapshot = SectionedListSnapshot.<Integer>empty().withSection("Rows", false);
+		for (int row = 0; row < 10000; row++) {
+			snapshot = snapshot.withRow(0, row);
+		}
+		PersistentVector<Integer> rows = snapshot.getSection(0).getRows();
+		PersistentVector<Integer> inserted = snapshot.withRowInserted(0, 9000, -1).getSection(0).getRows();
+		PersistentVector<Integer> removed = snapshot.withoutRow(0, 9000).getSection(0).getRows();
+		for (int row = 0; row < 8992; row += Width) {
+			assertSame(rows.leafOf(row), inserted.leafOf(row));
+			assertSame(rows.leafOf(row), removed.leafOf(row));
+		}
+		assertEquals(-1, (int)inserted.get(9000));
+		assertEquals(9001, (int)removed.get(9000));
+	}
+
+	private static PersistentVector<Integer> vectorOf(int size) {
+		PersistentVector<Integer> vector = PersistentVector.empty();
+		for (int index = 0; index < size; index++) {
+			vector = vector.add(index);
+		}
+		return vector;
+	}
+}
@@ -0,0 +1,294 @@
+/* SectionedListAllocationTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.callOnFxThread;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.SelectionMode;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * The tests of the bytes allocated by the frequent operations of the
+ * {@link SectionedListView}. Each operation is warmed up first, and then the
+ * bytes allocated by the JavaFX application thread while repeating the
+ * operation are measured with {@link ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * A test fails when the bytes per operation exceed its budget, e.g. a stream
+ * brought back into {@link SectionedListView#getSelectedRawItems()} or a cell
+ * built again instead of being reused from the pool. Each budget is noted
+ * with the bytes measured on a 64-bit HotSpot 17 with compressed references,
+ * and leaves some room for the differences between the virtual machines.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListAllocationTests {
+
+	/**
+	 * The maximum bytes allocated by {@link SectionedListView#reloadData()}
+	 * for each displayed item. Measured: 74 bytes.
+	 */
+	static final long ReloadBudgetPerItem = 112;
+
+	/**
+	 * The maximum bytes allocated by rebinding a list cell to another row
+	 * whose row cell is reused from the pool. Measured: 4819 bytes, most of
+	 * them by {@link ListCell#updateItem(Object, boolean)} itself.
+	 */
+	static final long RebindBudget = 5632;
+
+	/**
+	 * The maximum bytes allocated by {@link SectionedListView#getSelectedRawItems()}
+	 * for each selected item. Measured: 20 bytes, and 138 bytes with a stream.
+	 */
+	static final long SelectedRawItemsBudgetPerItem = 48;
+
+	/**
+	 * The maximum bytes allocated by {@link SectionedListView#recoverSelectionModel()}
+	 * for each selected item. Measured: 1 byte.
+	 */
+	static final long SelectionRecoveryBudgetPerItem = 16;
+
+	private static final int Sections = 100;
+	private static final int RowsInSection = 100;
+	private static final int WarmUpRounds = 20;
+
+	private static ThreadMXBean threads;
+
+	private SectionedListView<String> listView;
+	private Stage stage;
+	private int createdCells;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+		threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		String[][] rows = new String[Sections][RowsInSection];
+		for (int section = 0; section < Sections; section++) {
+			for (int row = 0; row < RowsInSection; row++) {
+				rows[section][row] = "Row " + row + " in section " + section;
+			}
+		}
+		runOnFxThread(() -> {
+			listView = new SectionedListView<>(new ArraySectionedListViewDataSource(rows), new CountingCellFactory());
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+			stage = JavaFXTestSupport.show(listView, 300, 400);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testReloadData() throws Exception {
+		runOnFxThread(() -> {
+			int items = listView.getItems().size();
+			long bytes = measure(20, () -> listView.reloadData());
+			assertEquals(items, listView.getItems().size());
+			assertWithinBudget("reloadData() per item", bytes / items, ReloadBudgetPerItem);
+		});
+	}
+
+	@Test
+	public void testRebindReusedCell() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListCellContainer<String> cell = visibleRowCell();
+			SectionedListItem<String> first = listView.getItems().get(1);
+			SectionedListItem<String> second = listView.getItems().get(2);
+			boolean[] toggle = new boolean[1];
+			Runnable rebind = () -> {
+				toggle[0] = !toggle[0];
+				cell.updateItem(toggle[0] ? first : second, false);
+			};
+			rebind.run();
+			rebind.run();
+			int created = createdCells;
+			long bytes = measure(1000, rebind);
+			assertEquals("the row cells must be reused", created, createdCells);
+			assertWithinBudget("updateItem per rebind", bytes, RebindBudget);
+		});
+	}
+
+	@Test
+	public void testGetSelectedRawItems() throws Exception {
+		runOnFxThread(() -> {
+			int selected = selectRows(100);
+			long bytes = measure(100, () -> listView.getSelectedRawItems());
+			assertEquals(selected, listView.getSelectedRawItems().size());
+			assertWithinBudget("getSelectedRawItems() per item", bytes / selected, SelectedRawItemsBudgetPerItem);
+		});
+	}
+
+	@Test
+	public void testRecoverSelectionModel() throws Exception {
+		runOnFxThread(() -> {
+			int selected = selectRows(20);
+			listView.reloadData();
+			assertEquals(selected, listView.getSelectedRawItems().size());
+			long bytes = measure(20, () -> listView.recoverSelectionModel());
+			assertEquals(selected, listView.getSelectedRawItems().size());
+			assertWithinBudget("recoverSelectionModel() per item", bytes / selected, SelectionRecoveryBudgetPerItem);
+		});
+	}
+
+	/**
+	 * Select the rows spread over the list, and keep them in the selected
+	 * items that are recovered after reloading.
+	 * 
+	 * @param count the number of the rows to select
+	 * @return the number of the selected rows
+	 */
+	private int selectRows(int count) {
+		int step = listView.getItems().size() / count;
+		for (int index = 1; index < listView.getItems().size() && count > 0; index += step) {
+			SectionedListItem<String> item = listView.getItems().get(index);
+			if (!item.isHeaderItem()) {
+				listView.getSelectionModel().select(index);
+				listView.toggleSelectedItem(item);
+				count--;
+			}
+		}
+		return listView.getSelectionModel().getSelectedIndices().size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private SectionedListCellContainer<String> visibleRowCell() {
+		for (Node node : listView.lookupAll(".list-cell")) {
+			ListCell<SectionedListItem<String>> cell = (ListCell<SectionedListItem<String>>)node;
+			if (cell.isVisible() && cell.getItem() != null && !cell.getItem().isHeaderItem()) {
+				return (SectionedListCellContainer<String>)cell;
+			}
+		}
+		throw new AssertionError("no visible row cell");
+	}
+
+	/**
+	 * Warm up the operation, and then measure the bytes allocated by the
+	 * current thread for each run of the operation.
+	 * 
+	 * @param times the number of the measured runs
+	 * @param operation the operation to measure
+	 * @return the allocated bytes per run
+	 */
+	private static long measure(int times, Runnable operation) {
+		for (int round = 0; round < WarmUpRounds; round++) {
+			operation.run();
+		}
+		long thread = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(thread);
+		for (int round = 0; round < times; round++) {
+			operation.run();
+		}
+		return (threads.getThreadAllocatedBytes(thread) - before) / times;
+	}
+
+	private static void assertWithinBudget(String operation, long bytes, long budget) {
+		assertTrue(format("%s allocates %d bytes, over the budget of %d bytes", operation, bytes, budget), bytes <= budget);
+	}
+
+	/**
+	 * The data source returns the prepared raw items, so that only the bytes
+	 * allocated by the list view are measured.
+	 */
+	private static class ArraySectionedListViewDataSource implements SectionedListViewDataSource<String> {
+
+		private final String[][] rows;
+
+		private ArraySectionedListViewDataSource(String[][] rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public int numberOfSections() {
+			return rows.length;
+		}
+
+		@Override
+		public boolean hasSectionHeader(int section) {
+			return true;
+		}
+
+		@Override
+		public String getSectionTitle(int section) {
+			return rows[section][0];
+		}
+
+		@Override
+		public int numberOfRowsInSection(int section) {
+			return rows[section].length;
+		}
+
+		@Override
+		public String getItem(IndexPath path) {
+			return rows[path.getSection()][path.getRow()];
+		}
+	}
+
+	/**
+	 * The cell factory counts the created cells to tell whether the cells are
+	 * reused.
+	 */
+	private class CountingCellFactory implements SectionedListViewCellFactory<String, DefaultSectionedListCell<String>, DefaultSectionedListCell<String>> {
+
+		private final DefaultSectionedListCellFactory<String> factory = new DefaultSectionedListCellFactory<>();
+
+		@Override
+		public DefaultSectionedListCell<String> getRowCell(ListCell<?> cell, IndexPath path, String item) {
+			createdCells++;
+			return factory.getRowCell(cell, path, item);
+		}
+
+		@Override
+		public DefaultSectionedListCell<String> getSectionHeader(ListCell<?> cell, int section, String title) {
+			createdCells++;
+			return factory.getSectionHeader(cell, section, title);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/* SectionedListCanvasTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of selecting the rows of the {@link SectionedListView} drawn by
+ * the {@link SectionedListCanvasSkin}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListCanvasTests {
+
+	private SectionedListView<String> listView;
+	private Stage stage;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		SectionedListSnapshot<String> snapshot = SectionedListSnapshot.empty();
+		for (int section = 0; section < 10; section++) {
+			snapshot = snapshot.withSection("Section " + section, true);
+			for (int row = 0; row < 5; row++) {
+				snapshot = snapshot.withRow(section, "Row " + row + " in " + section);
+			}
+		}
+		SectionedListSnapshot<String> loaded = snapshot;
+		runOnFxThread(() -> {
+			listView = new SectionedListView<>(loaded, new DefaultSectionedListCellFactory<>());
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+			listView.setCanvasRenderingEnabled(true);
+			stage = JavaFXTestSupport.show(listView, 300, 2000);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testShiftClickSkipsHeaders() throws Exception {
+		runOnFxThread(() -> {
+			press(1, false);
+			press(20, true);
+			assertEquals(17, listView.getSelectionModel().getSelectedIndices().size());
+			for (int index : listView.getSelectionModel().getSelectedIndices()) {
+				assertFalse(listView.getItems().get(index).isHeaderItem());
+			}
+		});
+	}
+
+	@Test
+	public void testShiftClickAfterItemsReplaced() throws Exception {
+		runOnFxThread(() -> {
+			press(50, false);
+			listView.setFilter(item -> item.endsWith(" 0"));
+			JavaFXTestSupport.layout(listView);
+			press(3, true);
+			assertEquals(1, listView.getSelectionModel().getSelectedIndices().size());
+			assertEquals("Row 2 in 0", listView.getSelectionModel().getSelectedItem().getRawItem());
+		});
+	}
+
+	/**
+	 * Press the mouse on the item at the index of the canvas.
+	 * 
+	 * @param index the flat index of the item
+	 * @param shift true to hold the shift key
+	 */
+	private void press(int index, boolean shift) {
+		SectionedListCanvasSkin<?> skin = (SectionedListCanvasSkin<?>)listView.getSkin();
+		double y = 0.0;
+		while (skin.indexAt(y) != index) {
+			assertTrue("no item at " + index, skin.indexAt(y) < index && skin.indexAt(y) >= 0);
+			y += 1.0;
+		}
+		y += 2.0;
+		canvas().fireEvent(new MouseEvent(MouseEvent.MOUSE_PRESSED, 10, y, 10, y, MouseButton.PRIMARY, 1, shift, false, false, false, true, false, false, false, false, true, null));
+	}
+
+	private Canvas canvas() {
+		for (Node child : listView.getChildrenUnmodifiable()) {
+			if (child instanceof Canvas) {
+				return (Canvas)child;
+			}
+		}
+		throw new AssertionError("no canvas");
+	}
+}
@@ -0,0 +1,223 @@
+/* SectionedListCellPoolTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.callOnFxThread;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of the {@link SectionedListCellPool} shared by the
+ * {@link SectionedListView}s.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListCellPoolTests {
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Test
+	public void testDropLeastRecentlyDetached() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListCellPool pool = new SectionedListCellPool(5);
+			SectionedListViewCellFactory<String, ?, ?> factory = new DefaultSectionedListCellFactory<>();
+			pool.retain(factory);
+			Group parent = new Group();
+			List<Node> cells = new ArrayList<>();
+			for (int index = 0; index < 10; index++) {
+				Node cell = new Region();
+				parent.getChildren().add(cell);
+				pool.addRowCell(factory, String.class, cell);
+				cells.add(cell);
+			}
+			for (Node cell : cells) {
+				parent.getChildren().remove(cell);
+			}
+			assertEquals(5, pool.size());
+			for (int index = 5; index < 10; index++) {
+				assertSame(cells.get(index), pool.takeRowCell(factory, String.class));
+			}
+			assertNull(pool.takeRowCell(factory, String.class));
+			assertEquals(0, pool.size());
+		});
+	}
+
+	@Test
+	public void testDropCellsOfReplacedFactory() throws Exception {
+		SectionedListCellPool pool = new SectionedListCellPool(64);
+		SectionedListViewCellFactory<String, ?, ?> oldFactory = new DefaultSectionedListCellFactory<>();
+		SectionedListViewCellFactory<String, ?, ?> newFactory = new DefaultSectionedListCellFactory<>();
+		List<SectionedListView<String>> listViews = new ArrayList<>();
+		Stage[] stage = new Stage[1];
+		runOnFxThread(() -> {
+			SectionedListSnapshot<String> snapshot = SectionedListSnapshot.empty();
+			for (int section = 0; section < 20; section++) {
+				snapshot = snapshot.withSection("Section " + section, true);
+				for (int row = 0; row < 10; row++) {
+					snapshot = snapshot.withRow(section, "Row " + row + " in " + section);
+				}
+			}
+			VBox root = new VBox();
+			for (int index = 0; index < 2; index++) {
+				SectionedListView<String> listView = new SectionedListView<>(snapshot, oldFactory, pool);
+				listView.setPrefHeight(200);
+				listViews.add(listView);
+				root.getChildren().add(listView);
+			}
+			stage[0] = JavaFXTestSupport.show(root, 300, 400);
+			for (int index = 0; index < 100; index += 10) {
+				listViews.get(0).scrollTo(index);
+				JavaFXTestSupport.layout(root);
+			}
+			assertTrue(pool.countRowCells(oldFactory, String.class) > 0);
+
+			// the other list view still uses the old factory
+			listViews.get(0).setSectionedListViewCellFactory(newFactory);
+			JavaFXTestSupport.layout(root);
+			assertTrue(pool.countRowCells(oldFactory, String.class) > 0);
+
+			listViews.get(1).setSectionedListViewCellFactory(newFactory);
+			JavaFXTestSupport.layout(root);
+			assertEquals(0, pool.countRowCells(oldFactory, String.class));
+			assertEquals(0, pool.countHeaders(oldFactory));
+			for (int index = 0; index < 200; index += 10) {
+				listViews.get(index / 10 % 2).scrollTo(index);
+				JavaFXTestSupport.layout(root);
+				assertEquals(0, pool.countRowCells(oldFactory, String.class));
+			}
+			assertEquals(pool.size(), pool.countRowCells(newFactory, String.class) + pool.countHeaders(newFactory));
+			stage[0].close();
+		});
+	}
+
+	@Test
+	public void testPrewarmOutsideChildrenOfListView() throws Exception {
+		SectionedListCellPool pool = new SectionedListCellPool(64);
+		SectionedListViewCellFactory<String, ?, ?> factory = new DefaultSectionedListCellFactory<>();
+		List<Node> addedChildren = new ArrayList<>();
+		List<SectionedListView<String>> listView = new ArrayList<>();
+		Stage[] stage = new Stage[1];
+		runOnFxThread(() -> {
+			SectionedListSnapshot<String> snapshot = SectionedListSnapshot.empty();
+			for (int section = 0; section < 5; section++) {
+				snapshot = snapshot.withSection("Section " + section, true);
+				for (int row = 0; row < 10; row++) {
+					snapshot = snapshot.withRow(section, "Row " + row + " in " + section);
+				}
+			}
+			listView.add(new SectionedListView<>(snapshot, factory, pool));
+			stage[0] = JavaFXTestSupport.show(new VBox(listView.get(0)), 300, 200);
+			listView.get(0).getChildrenUnmodifiable().addListener((ListChangeListener<Node>)change -> {
+				while (change.next()) {
+					addedChildren.addAll(change.getAddedSubList());
+				}
+			});
+			listView.get(0).prewarmCells(4, 2);
+		});
+		long deadline = System.currentTimeMillis() + JavaFXTestSupport.Timeout * 1000;
+		while (callOnFxThread(listView.get(0)::isPrewarmingCells)) {
+			assertTrue(System.currentTimeMillis() < deadline);
+			Thread.sleep(20);
+		}
+		runOnFxThread(() -> {
+			List<Node> prewarmed = new ArrayList<>();
+			for (Node cell = pool.takeRowCell(factory, String.class); cell != null; cell = pool.takeRowCell(factory, String.class)) {
+				prewarmed.add(cell);
+			}
+			for (Node header = pool.takeHeader(factory); header != null; header = pool.takeHeader(factory)) {
+				prewarmed.add(header);
+			}
+			assertFalse(prewarmed.isEmpty());
+			for (Node cell : prewarmed) {
+				assertFalse(addedChildren.contains(cell));
+				if (cell instanceof Control) {
+					assertNotNull(((Control)cell).getSkin());
+				}
+			}
+			stage[0].close();
+		});
+	}
+
+	@Test
+	public void testReleaseFactoryOfRemovedListView() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListCellPool pool = new SectionedListCellPool(64);
+			SectionedListViewCellFactory<String, ?, ?> factory = new DefaultSectionedListCellFactory<>();
+			SectionedListSnapshot<String> snapshot = SectionedListSnapshot.empty();
+			for (int section = 0; section < 20; section++) {
+				snapshot = snapshot.withSection("Section " + section, true);
+				for (int row = 0; row < 10; row++) {
+					snapshot = snapshot.withRow(section, "Row " + row + " in " + section);
+				}
+			}
+			SectionedListView<String> listView = new SectionedListView<>(snapshot, factory, pool);
+			VBox root = new VBox(listView);
+			Stage stage = JavaFXTestSupport.show(root, 300, 200);
+			for (int index = 0; index < 100; index += 10) {
+				listView.scrollTo(index);
+				JavaFXTestSupport.layout(root);
+			}
+			assertTrue(pool.countRowCells(factory, String.class) > 0);
+
+			root.getChildren().remove(listView);
+			assertEquals(0, pool.size());
+			listView.setSectionedListViewCellFactory(new DefaultSectionedListCellFactory<>());
+			assertEquals(0, pool.size());
+
+			listView.setSectionedListViewCellFactory(factory);
+			root.getChildren().add(listView);
+			for (int index = 0; index < 100; index += 10) {
+				listView.scrollTo(index);
+				JavaFXTestSupport.layout(root);
+			}
+			assertTrue(pool.countRowCells(factory, String.class) > 0);
+			stage.close();
+		});
+	}
+}
@@ -0,0 +1,182 @@
+/* SectionedListDataSourceListenerTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.callOnFxThread;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Node;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of the changes notified by the data source to the
+ * {@link SectionedListView}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListDataSourceListenerTests {
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Test
+	public void testNotifiedRowsInserted() throws Exception {
+		ListDataSource dataSource = new ListDataSource();
+		SectionedListView<String> listView = callOnFxThread(() -> new SectionedListView<>(dataSource, null));
+		runOnFxThread(() -> {
+			assertEquals(3, listView.getItems().size());
+			dataSource.rows.add(1, "inserted");
+			dataSource.support.fireRowsInserted(0, 1, 2);
+		});
+		// the notifications are applied in a later runnable
+		runOnFxThread(() -> {});
+		runOnFxThread(() -> {
+			assertEquals(4, listView.getItems().size());
+			assertEquals("inserted", listView.getItems().get(2).getRawItem());
+		});
+	}
+
+	@Test
+	public void testListViewNotKeptByDataSource() throws Exception {
+		ListDataSource dataSource = new ListDataSource();
+		WeakReference<SectionedListView<String>> listView = callOnFxThread(() -> new WeakReference<>(new SectionedListView<>(dataSource, null)));
+		for (int round = 0; round < 50 && listView.get() != null; round++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(listView.get());
+
+		// the wrapper of the collected list view removes itself
+		runOnFxThread(() -> dataSource.support.fireDataChanged());
+		runOnFxThread(() -> {});
+		assertEquals(0, dataSource.listeners);
+	}
+
+	@Test
+	public void testSectionIndexBarKeptForSameTitles() throws Exception {
+		ListDataSource dataSource = new ListDataSource();
+		dataSource.titles.add("A");
+		SectionedListView<String> listView = callOnFxThread(() -> new SectionedListView<>(dataSource, null));
+		Node label = callOnFxThread(() -> {
+			listView.setSectionIndexBarEnabled(true);
+			dataSource.rows.add("inserted");
+			dataSource.support.fireRowsInserted(0, 2, 3);
+			return indexLabels(listView).get(0);
+		});
+		runOnFxThread(() -> {});
+		runOnFxThread(() -> {
+			assertEquals(4, listView.getItems().size());
+			assertSame(label, indexLabels(listView).get(0));
+			dataSource.titles.add("B");
+			dataSource.support.fireRowsChanged(0, 0, 1);
+		});
+		runOnFxThread(() -> {});
+		runOnFxThread(() -> {
+			assertEquals(2, indexLabels(listView).size());
+			assertNotSame(label, indexLabels(listView).get(0));
+		});
+	}
+
+	private static List<Node> indexLabels(SectionedListView<String> listView) {
+		for (Node child : listView.getChildrenUnmodifiable()) {
+			if (child instanceof SectionIndexBar) {
+				return ((SectionIndexBar<?>) child).getChildrenUnmodifiable();
+			}
+		}
+		throw new AssertionError("no section index bar");
+	}
+
+	/**
+	 * The data source of a section whose rows are kept in a list.
+	 */
+	private static class ListDataSource implements SectionedListViewDataSource<String> {
+
+		private final List<String> rows = new ArrayList<>();
+		private final List<String> titles = new ArrayList<>();
+		private final SectionedListViewDataSourceSupport support = new SectionedListViewDataSourceSupport();
+		private int listeners;
+
+		private ListDataSource() {
+			rows.add("first");
+			rows.add("second");
+		}
+
+		@Override
+		public int numberOfSections() {
+			return 1;
+		}
+
+		@Override
+		public boolean hasSectionHeader(int section) {
+			return true;
+		}
+
+		@Override
+		public String getSectionTitle(int section) {
+			return "Section";
+		}
+
+		@Override
+		public int numberOfRowsInSection(int section) {
+			return rows.size();
+		}
+
+		@Override
+		public String getItem(IndexPath path) {
+			return rows.get(path.getRow());
+		}
+
+		@Override
+		public List<String> sectionIndexTitles() {
+			return titles;
+		}
+
+		@Override
+		public void addDataSourceListener(SectionedListViewDataSourceListener listener) {
+			support.addDataSourceListener(listener);
+			listeners++;
+		}
+
+		@Override
+		public void removeDataSourceListener(SectionedListViewDataSourceListener listener) {
+			support.removeDataSourceListener(listener);
+			listeners--;
+		}
+	}
+}
@@ -73,6 +73,7 @@ public class SectionedListDemo extends Application {
 			}
 		};
 		SectionedListView<String> listView = new SectionedListView<>(source, null);
+		listView.setPinnedHeaderEnabled(true);
 		StackPane root = new StackPane();
 		root.getChildren().add(listView);
 		Scene scene = new Scene(root, 250, 500);
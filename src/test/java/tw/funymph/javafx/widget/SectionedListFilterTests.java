@@ -0,0 +1,146 @@
+/* SectionedListFilterTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javafx.scene.control.SelectionMode;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of keeping the selected rows of the {@link SectionedListView}
+ * while the filter and the search text are changed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListFilterTests {
+
+	private static final int Sections = 50;
+	private static final int RowsInSection = 1000;
+
+	private SectionedListView<CountingItem> listView;
+	private Stage stage;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		SectionedListSnapshot<CountingItem> snapshot = SectionedListSnapshot.empty();
+		for (int section = 0; section < Sections; section++) {
+			snapshot = snapshot.withSection("Section " + section, true);
+			for (int row = 0; row < RowsInSection; row++) {
+				snapshot = snapshot.withRow(section, new CountingItem(section * RowsInSection + row));
+			}
+		}
+		SectionedListSnapshot<CountingItem> loaded = snapshot;
+		runOnFxThread(() -> {
+			listView = new SectionedListView<>(loaded, new DefaultSectionedListCellFactory<>());
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+			stage = JavaFXTestSupport.show(listView, 300, 400);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testKeepSelectionThroughFilters() throws Exception {
+		runOnFxThread(() -> {
+			for (int index = 1; index < listView.getItems().size(); index += 2503) {
+				SectionedListItem<CountingItem> item = listView.getItems().get(index);
+				if (!item.isHeaderItem()) {
+					listView.getSelectionModel().select(index);
+					listView.toggleSelectedItem(item);
+				}
+			}
+			Set<CountingItem> selected = new HashSet<>(listView.getSelectedRawItems());
+			assertTrue(selected.size() >= 10);
+
+			// the selected rows are found by their index paths, not by comparing them with every row
+			CountingItem.comparisons = 0;
+			listView.setFilter(item -> item.value % 2 == 0);
+			assertTrue("compared " + CountingItem.comparisons + " times", CountingItem.comparisons < Sections * RowsInSection);
+			for (CountingItem item : listView.getSelectedRawItems()) {
+				assertTrue(selected.contains(item) && item.value % 2 == 0);
+			}
+			for (CountingItem item : selected) {
+				assertEquals(item.value % 2 == 0, listView.getSelectedRawItems().contains(item));
+			}
+
+			CountingItem.comparisons = 0;
+			listView.setFilter(null);
+			assertTrue("compared " + CountingItem.comparisons + " times", CountingItem.comparisons < Sections * RowsInSection);
+			assertEquals(selected, new HashSet<>(listView.getSelectedRawItems()));
+		});
+	}
+
+	/**
+	 * The raw item counts the comparisons, so that a linear scan over the
+	 * rows for each selected row is noticed.
+	 */
+	private static class CountingItem {
+
+		private static int comparisons;
+
+		private final int value;
+
+		private CountingItem(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			comparisons++;
+			return object instanceof CountingItem && ((CountingItem)object).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return "Item " + value;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/* SectionedListGridTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.callOnFxThread;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.control.SelectionMode;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of the selection and the reloading of the {@link SectionedListView}
+ * in the grid layout.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListGridTests {
+
+	private SectionedListView<String> listView;
+	private Stage stage;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		SectionedListSnapshot<String> snapshot = SectionedListSnapshot.<String>empty()
+			.withSection("Alpha", true).withRow(0, "a1").withRow(0, "a2").withRow(0, "a3")
+			.withSection("Beta", true).withRow(1, "b1").withRow(1, "b2");
+		runOnFxThread(() -> {
+			listView = new SectionedListView<>(snapshot, null);
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+			listView.setGridColumns(2);
+			stage = JavaFXTestSupport.show(listView, 300, 400);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testToggleGridRow() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListItem<String> gridRow = listView.getItems().get(1);
+			assertTrue(gridRow instanceof SectionedListGridRow);
+			listView.toggleSelectedItem(gridRow);
+			assertEquals(asList("a1", "a2"), trackedRawItems());
+			listView.toggleSelectedItem(gridRow);
+			assertEquals(asList(), trackedRawItems());
+			listView.toggleSelectedItem(gridRow);
+			assertEquals(asList("a1", "a2"), trackedRawItems());
+		});
+	}
+
+	@Test
+	public void testReloadKeepsSelectedGridRow() throws Exception {
+		runOnFxThread(() -> {
+			listView.getSelectionModel().select(2);
+			listView.toggleSelectedItem(listView.getItems().get(2));
+			listView.reloadData();
+			assertEquals(asList(2), listView.getSelectionModel().getSelectedIndices());
+			assertEquals(asList("a3"), listView.getSelectedRawItems());
+
+			// the selected items are found in the other grid rows after the columns are changed
+			listView.setGridColumns(3);
+			listView.reloadData();
+			assertEquals(asList(1), listView.getSelectionModel().getSelectedIndices());
+			assertEquals(asList("a1", "a2", "a3"), listView.getSelectedRawItems());
+		});
+	}
+
+	@Test
+	public void testNonSelectedRawItems() throws Exception {
+		runOnFxThread(() -> {
+			listView.getSelectionModel().select(1);
+			assertEquals(asList("a3", "b1", "b2"), listView.getNonSelectedRawItems());
+		});
+	}
+
+	@Test
+	public void testReloadIncrementally() throws Exception {
+		runOnFxThread(() -> {
+			listView.getSelectionModel().select(4);
+			listView.reloadDataIncrementally();
+		});
+		long deadline = System.currentTimeMillis() + JavaFXTestSupport.Timeout * 1000;
+		while (callOnFxThread(() -> listView.isReloadingIncrementally()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		runOnFxThread(() -> {
+			assertFalse(listView.isReloadingIncrementally());
+			assertEquals(2, listView.getDisplayedGridColumns());
+			assertEquals(5, listView.getItems().size());
+			assertTrue(listView.getItems().get(4) instanceof SectionedListGridRow);
+			assertEquals(asList("b1", "b2"), listView.getSelectedRawItems());
+		});
+	}
+
+	private List<String> trackedRawItems() {
+		List<String> rawItems = new ArrayList<>();
+		for (SectionedListItem<String> item : listView.selectedItems) {
+			rawItems.add(item.getRawItem());
+		}
+		return rawItems;
+	}
+}
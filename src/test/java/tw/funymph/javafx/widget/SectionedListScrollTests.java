@@ -0,0 +1,117 @@
+/* SectionedListScrollTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.ScrollEvent.HorizontalTextScrollUnits;
+import javafx.scene.input.ScrollEvent.VerticalTextScrollUnits;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of the pinned header of the {@link SectionedListView} while
+ * scrolling.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListScrollTests {
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Test
+	public void testPinnedHeaderFollowsScrolling() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListView<String> listView = new SectionedListView<>(createSnapshot(), new DefaultSectionedListCellFactory<>());
+			listView.setPinnedHeaderEnabled(true);
+			VBox root = new VBox(listView);
+			Stage stage = JavaFXTestSupport.show(root, 300, 200);
+			PinnedSectionHeader<?> header = getPinnedHeader(listView);
+			Node flow = listView.lookup(".virtual-flow");
+			boolean pushed = false;
+			for (int step = 0; step < 200 && listView.getSectionedListViewSkin().getFirstVisibleIndex() < 30; step++) {
+				flow.fireEvent(new ScrollEvent(ScrollEvent.SCROLL, 10, 10, 10, 10, false, false, false, false, false, false, 0, -7, 0, -7, HorizontalTextScrollUnits.NONE, 0, VerticalTextScrollUnits.NONE, 0, 0, null));
+				JavaFXTestSupport.layout(root);
+				int first = listView.getSectionedListViewSkin().getFirstVisibleIndex();
+				assertTrue(header.isVisible());
+				assertEquals("Section " + first / 11, ((Label)header.getGraphic()).getText());
+				pushed |= header.getTranslateY() < 0.0;
+			}
+			assertTrue(pushed);
+			stage.close();
+		});
+	}
+
+	@Test
+	public void testScrollWithinSectionLaysOutPinnedHeaderOnly() throws Exception {
+		runOnFxThread(() -> {
+			SectionedListView<String> listView = new SectionedListView<>(createSnapshot(), new DefaultSectionedListCellFactory<>());
+			listView.setPinnedHeaderEnabled(true);
+			VBox root = new VBox(listView);
+			Stage stage = JavaFXTestSupport.show(root, 300, 200);
+			listView.flowScrolled();
+			JavaFXTestSupport.layout(root);
+
+			listView.flowScrolled();
+			assertFalse(listView.isNeedsLayout());
+			assertTrue(getPinnedHeader(listView).isNeedsLayout());
+			stage.close();
+		});
+	}
+
+	private static SectionedListSnapshot<String> createSnapshot() {
+		SectionedListSnapshot<String> snapshot = SectionedListSnapshot.empty();
+		for (int section = 0; section < 5; section++) {
+			snapshot = snapshot.withSection("Section " + section, true);
+			for (int row = 0; row < 10; row++) {
+				snapshot = snapshot.withRow(section, "Row " + row + " in " + section);
+			}
+		}
+		return snapshot;
+	}
+
+	private static PinnedSectionHeader<?> getPinnedHeader(SectionedListView<?> listView) {
+		for (Node child : listView.getChildrenUnmodifiable()) {
+			if (child instanceof PinnedSectionHeader) {
+				return (PinnedSectionHeader<?>)child;
+			}
+		}
+		throw new AssertionError("no pinned header");
+	}
+}
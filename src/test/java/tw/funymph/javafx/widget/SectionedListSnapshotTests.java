@@ -0,0 +1,146 @@
+/* SectionedListSnapshotTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ListCell;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The tests of swapping the {@link SectionedListSnapshot}s into a shown
+ * {@link SectionedListView}, which patches the displayed items instead of
+ * replacing them.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListSnapshotTests {
+
+	private SectionedListSnapshot<String> snapshot;
+	private SectionedListView<String> listView;
+	private Stage stage;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		snapshot = SectionedListSnapshot.<String>empty()
+			.withSection("Alpha", true).withRow(0, "a1").withRow(0, "a2")
+			.withSection("Beta", true).withRow(1, "b1").withRow(1, "b2");
+		runOnFxThread(() -> {
+			listView = new SectionedListView<>(null, null);
+			listView.setSnapshot(snapshot);
+			stage = JavaFXTestSupport.show(listView, 300, 400);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testRenameSection() throws Exception {
+		runOnFxThread(() -> {
+			listView.setSnapshot(snapshot.withSectionTitle(0, "Renamed"));
+			assertEquals(asList("0=Renamed", "3=Beta"), displayedHeaders());
+		});
+	}
+
+	@Test
+	public void testInsertSection() throws Exception {
+		runOnFxThread(() -> {
+			listView.setSnapshot(snapshot.withSectionInserted(0, "Zero", true));
+			assertEquals(asList("0=Zero", "1=Alpha", "4=Beta"), displayedHeaders());
+			listView.setSnapshot(snapshot.withSectionInserted(1, "One", true).withSectionTitle(0, "Renamed"));
+			assertEquals(asList("0=Renamed", "3=One", "4=Beta"), displayedHeaders());
+		});
+	}
+
+	@Test
+	public void testPatchAfterCancelledIncrementalReload() throws Exception {
+		SectionedListSnapshot<String> large = SectionedListSnapshot.<String>empty().withSection("Large", true);
+		for (int row = 0; row < 300000; row++) {
+			large = large.withRow(0, "r" + row);
+		}
+		SectionedListSnapshot<String> loaded = large;
+		runOnFxThread(() -> {
+			listView.setSnapshot(loaded);
+			listView.setIncrementalReloadBudget(1);
+			listView.reloadDataIncrementally();
+		});
+		Thread.sleep(100);
+		runOnFxThread(() -> {
+			assertTrue(listView.isReloadingIncrementally());
+			listView.cancelIncrementalReload();
+			listView.setSnapshot(loaded.withRow(0, 299999, "changed").withRow(0, 10, "early"));
+			assertEquals(300001, listView.getItems().size());
+			assertEquals("early", listView.getItems().get(11).getRawItem());
+			assertEquals("changed", listView.getItems().get(300000).getRawItem());
+		});
+	}
+
+	/**
+	 * Get the titles shown by the visible header cells with their indexes.
+	 * 
+	 * @return the displayed headers in the order of their indexes
+	 */
+	@SuppressWarnings("unchecked")
+	private List<String> displayedHeaders() {
+		JavaFXTestSupport.layout(listView);
+		String[] headers = new String[listView.getItems().size()];
+		for (Node node : listView.lookupAll(".list-cell")) {
+			ListCell<SectionedListItem<String>> cell = (ListCell<SectionedListItem<String>>)node;
+			if (cell.isVisible() && cell.getItem() != null && cell.getItem().isHeaderItem()) {
+				headers[cell.getIndex()] = cell.getIndex() + "=" + ((Labeled)cell.getGraphic()).getText();
+			}
+		}
+		List<String> displayed = new ArrayList<>();
+		for (String header : headers) {
+			if (header != null) {
+				displayed.add(header);
+			}
+		}
+		return displayed;
+	}
+}
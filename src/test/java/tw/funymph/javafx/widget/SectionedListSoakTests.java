@@ -0,0 +1,519 @@
+/* SectionedListSoakTests.java created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Pin-Ying Tu <dbi1463@gmail.com>
+ * 
+ * This file is part of SectionedListView under the MIT license.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tw.funymph.javafx.widget;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.callOnFxThread;
+import static tw.funymph.javafx.widget.JavaFXTestSupport.runOnFxThread;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.SelectionMode;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The long-running randomized test of the {@link SectionedListView}. The test
+ * applies random row and section changes notified through the data source
+ * listeners, reloads, row moves, selections and scroll positions to a shown
+ * list view, and after each step checks the displayed items, their index
+ * paths, the item index, the selection and the visible cells against a simple
+ * reference model. The rows are selected both like clicking them and through
+ * the selection model: the clicked rows are kept selected after reloading,
+ * and all the selected rows are kept selected after the changes notified by
+ * the data source. It also checks that the cell pool and the nodes retained
+ * by the list view stay bounded.
+ * <p>
+ * The number of the steps and the random seed can be set by the system
+ * properties <code>soak.steps</code> and <code>soak.seed</code>; the seed is
+ * reported when a check fails so that the failed run can be repeated.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.0
+ * @since 1.0
+ */
+public class SectionedListSoakTests {
+
+	/**
+	 * The number of the random steps.
+	 */
+	static final int Steps = Integer.getInteger("soak.steps", 3000);
+
+	/**
+	 * The maximum number of the nodes in the scene graph of the list view.
+	 */
+	static final int RetainedNodeBudget = 1500;
+
+	private static final int MaxRows = 400;
+	private static final int MaxSections = 40;
+
+	private Random random;
+	private long seed;
+	private int step;
+	private String operation;
+
+	private ReferenceDataSource model;
+	private Set<String> clickedItems;
+	private Set<String> modelSelectedItems;
+	private SectionedListView<String> listView;
+	private Stage stage;
+
+	@BeforeClass
+	public static void startToolkit() throws Exception {
+		JavaFXTestSupport.startToolkit();
+	}
+
+	@Before
+	public void showListView() throws Exception {
+		seed = Long.getLong("soak.seed", System.nanoTime());
+		random = new Random(seed);
+		clickedItems = new HashSet<>();
+		modelSelectedItems = new HashSet<>();
+		runOnFxThread(() -> {
+			model = new ReferenceDataSource();
+			for (int section = 0; section < 10; section++) {
+				model.sections.add(model.newSection(random.nextInt(20)));
+			}
+			listView = new SectionedListView<>(model, null);
+			listView.setItemIndexKey(Function.identity());
+			listView.setRowReorderingEnabled(true);
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+			stage = JavaFXTestSupport.show(listView, 300, 400);
+		});
+	}
+
+	@After
+	public void closeStage() throws Exception {
+		runOnFxThread(() -> stage.close());
+	}
+
+	@Test
+	public void testRandomOperations() throws Exception {
+		for (step = 0; step < Steps; step++) {
+			operation = callOnFxThread(this::applyRandomOperation);
+			// the changes notified by the data source are applied in a later runnable
+			runOnFxThread(() -> {});
+			runOnFxThread(this::verify);
+		}
+	}
+
+	/**
+	 * Apply a random operation to the reference model and the list view.
+	 * 
+	 * @return the description of the operation
+	 */
+	private String applyRandomOperation() {
+		int rows = model.numberOfRows();
+		int choice = random.nextInt(100);
+		if (choice < 15 && rows < MaxRows) {
+			return insertRows();
+		}
+		if (choice < 27 || (choice < 35 && rows >= MaxRows)) {
+			return removeRows();
+		}
+		if (choice < 37) {
+			return changeRows();
+		}
+		if (choice < 42 && model.sections.size() < MaxSections) {
+			return insertSections();
+		}
+		if (choice < 46) {
+			return removeSections();
+		}
+		if (choice < 50) {
+			return changeSections();
+		}
+		if (choice < 54) {
+			return reload();
+		}
+		if (choice < 64) {
+			return toggleSelection();
+		}
+		if (choice < 72) {
+			return selectThroughModel();
+		}
+		if (choice < 88) {
+			return scroll();
+		}
+		return moveRow();
+	}
+
+	private String insertRows() {
+		if (model.sections.isEmpty()) {
+			return insertSections();
+		}
+		int section = random.nextInt(model.sections.size());
+		List<String> rows = model.sections.get(section).rows;
+		int from = random.nextInt(rows.size() + 1);
+		int count = 1 + random.nextInt(4);
+		for (int row = from; row < from + count; row++) {
+			rows.add(row, model.newItem());
+		}
+		model.support.fireRowsInserted(section, from, from + count);
+		return format("insert rows [%d, %d) in section %d", from, from + count, section);
+	}
+
+	private String removeRows() {
+		int section = randomSectionWithRows();
+		if (section < 0) {
+			return insertRows();
+		}
+		List<String> rows = model.sections.get(section).rows;
+		int from = random.nextInt(rows.size());
+		int to = Math.min(rows.size(), from + 1 + random.nextInt(4));
+		rows.subList(from, to).clear();
+		model.support.fireRowsRemoved(section, from, to);
+		return format("remove rows [%d, %d) in section %d", from, to, section);
+	}
+
+	private String changeRows() {
+		int section = randomSectionWithRows();
+		if (section < 0) {
+			return insertRows();
+		}
+		List<String> rows = model.sections.get(section).rows;
+		int from = random.nextInt(rows.size());
+		int to = Math.min(rows.size(), from + 1 + random.nextInt(3));
+		for (int row = from; row < to; row++) {
+			rows.set(row, model.newItem());
+		}
+		model.support.fireRowsChanged(section, from, to);
+		return format("change rows [%d, %d) in section %d", from, to, section);
+	}
+
+	private String insertSections() {
+		int from = random.nextInt(model.sections.size() + 1);
+		int count = 1 + random.nextInt(2);
+		for (int section = from; section < from + count; section++) {
+			model.sections.add(section, model.newSection(random.nextInt(8)));
+		}
+		model.support.fireSectionsInserted(from, from + count);
+		return format("insert sections [%d, %d)", from, from + count);
+	}
+
+	private String removeSections() {
+		if (model.sections.isEmpty()) {
+			return insertSections();
+		}
+		int from = random.nextInt(model.sections.size());
+		int to = Math.min(model.sections.size(), from + 1 + random.nextInt(2));
+		model.sections.subList(from, to).clear();
+		model.support.fireSectionsRemoved(from, to);
+		return format("remove sections [%d, %d)", from, to);
+	}
+
+	private String changeSections() {
+		if (model.sections.isEmpty()) {
+			return insertSections();
+		}
+		int section = random.nextInt(model.sections.size());
+		ReferenceSection changed = model.sections.get(section);
+		changed.title = "Section " + model.nextId++;
+		changed.header = random.nextInt(4) != 0;
+		model.support.fireSectionsChanged(section, section + 1);
+		return format("change section %d", section);
+	}
+
+	/**
+	 * Change the model without notifying the list view, and then reload the
+	 * list view.
+	 */
+	private String reload() {
+		int changes = random.nextInt(5);
+		for (int change = 0; change < changes; change++) {
+			int section = randomSectionWithRows();
+			if (section >= 0) {
+				List<String> rows = model.sections.get(section).rows;
+				rows.set(random.nextInt(rows.size()), model.newItem());
+			}
+			else {
+				model.sections.add(model.newSection(1 + random.nextInt(5)));
+			}
+		}
+		listView.reloadData();
+		// only the clicked rows are recovered after reloading
+		modelSelectedItems.clear();
+		return format("reload after %d silent changes", changes);
+	}
+
+	/**
+	 * Toggle the selection of a random row like clicking it with the shortcut
+	 * key pressed.
+	 */
+	private String toggleSelection() {
+		int index = randomRowIndex();
+		if (index < 0) {
+			return scroll();
+		}
+		SectionedListItem<String> item = listView.getItems().get(index);
+		if (modelSelectedItems.remove(item.getRawItem())) {
+			listView.getSelectionModel().clearSelection(index);
+			return format("clear the selection of %s at %d", item.getRawItem(), index);
+		}
+		if (listView.getSelectionModel().isSelected(index)) {
+			listView.getSelectionModel().clearSelection(index);
+			clickedItems.remove(item.getRawItem());
+		}
+		else {
+			listView.getSelectionModel().select(index);
+			clickedItems.add(item.getRawItem());
+		}
+		listView.toggleSelectedItem(item);
+		return format("toggle the selection of %s at %d", item.getRawItem(), index);
+	}
+
+	/**
+	 * Select a random row through the selection model or by its raw item
+	 * without clicking it.
+	 */
+	private String selectThroughModel() {
+		int index = randomRowIndex();
+		if (index < 0 || listView.getSelectionModel().isSelected(index)) {
+			return scroll();
+		}
+		String rawItem = listView.getItems().get(index).getRawItem();
+		if (random.nextBoolean()) {
+			listView.getSelectionModel().select(index);
+		}
+		else {
+			assertTrue(listView.selectItem(rawItem));
+		}
+		modelSelectedItems.add(rawItem);
+		return format("select %s at %d", rawItem, index);
+	}
+
+	private String scroll() {
+		int index = listView.getItems().isEmpty() ? 0 : random.nextInt(listView.getItems().size());
+		listView.scrollTo(index);
+		return format("scroll to %d", index);
+	}
+
+	private String moveRow() {
+		int source = randomSectionWithRows();
+		if (source < 0) {
+			return insertRows();
+		}
+		int target = random.nextInt(model.sections.size());
+		List<String> sourceRows = model.sections.get(source).rows;
+		List<String> targetRows = model.sections.get(target).rows;
+		int from = random.nextInt(sourceRows.size());
+		int to = random.nextInt(targetRows.size() + (source == target ? 0 : 1));
+		String description = format("move row %d in section %d to row %d in section %d", from, source, to, target);
+		boolean moved = listView.moveRow(new ImmutableIndexPath(source, from), new ImmutableIndexPath(target, to));
+		assertEquals(description, source != target || from != to, moved);
+		return description;
+	}
+
+	private int randomSectionWithRows() {
+		List<Integer> candidates = new ArrayList<>();
+		for (int section = 0; section < model.sections.size(); section++) {
+			if (!model.sections.get(section).rows.isEmpty()) {
+				candidates.add(section);
+			}
+		}
+		return candidates.isEmpty() ? -1 : candidates.get(random.nextInt(candidates.size()));
+	}
+
+	private int randomRowIndex() {
+		List<Integer> candidates = new ArrayList<>();
+		for (int index = 0; index < listView.getItems().size(); index++) {
+			if (!listView.getItems().get(index).isHeaderItem()) {
+				candidates.add(index);
+			}
+		}
+		return candidates.isEmpty() ? -1 : candidates.get(random.nextInt(candidates.size()));
+	}
+
+	/**
+	 * Check the list view against the reference model.
+	 */
+	private void verify() {
+		String message = format("step %d (%s) with soak.seed=%d", step, operation, seed);
+		JavaFXTestSupport.layout(listView);
+		List<SectionedListItem<String>> items = listView.getItems();
+		Set<String> existingItems = new HashSet<>();
+		int index = 0;
+		for (int section = 0; section < model.sections.size(); section++) {
+			ReferenceSection expected = model.sections.get(section);
+			if (expected.header) {
+				SectionedListItem<String> header = items.get(index++);
+				assertTrue(message, header.isHeaderItem());
+				assertEquals(message, section, header.getIndexPath().getSection());
+				assertEquals(message, expected.title, listView.getSectionTitle(header.getIndexPath()));
+			}
+			for (int row = 0; row < expected.rows.size(); row++) {
+				SectionedListItem<String> item = items.get(index++);
+				String rawItem = expected.rows.get(row);
+				assertFalse(message, item.isHeaderItem());
+				assertEquals(message, rawItem, item.getRawItem());
+				assertEquals(message, section, item.getIndexPath().getSection());
+				assertEquals(message, row, item.getIndexPath().getRow());
+				IndexPath path = listView.indexPathOf(rawItem);
+				assertNotNull(message, path);
+				assertEquals(message, section, path.getSection());
+				assertEquals(message, row, path.getRow());
+				existingItems.add(rawItem);
+			}
+		}
+		assertEquals(message, index, items.size());
+
+		// the removed or replaced rows are not selected any more
+		clickedItems.retainAll(existingItems);
+		modelSelectedItems.retainAll(existingItems);
+		Set<String> selectedItems = new HashSet<>(clickedItems);
+		selectedItems.addAll(modelSelectedItems);
+		assertEquals(message, selectedItems, new HashSet<>(listView.getSelectedRawItems()));
+		for (int selected : listView.getSelectionModel().getSelectedIndices()) {
+			assertFalse(message, items.get(selected).isHeaderItem());
+		}
+		verifyVisibleCells(message);
+		assertTrue(message, listView.getCellPool().size() <= listView.getCellPool().getCapacity());
+		assertTrue(message, countNodes(listView) <= RetainedNodeBudget);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void verifyVisibleCells(String message) {
+		List<SectionedListItem<String>> items = listView.getItems();
+		for (Node node : listView.lookupAll(".list-cell")) {
+			ListCell<SectionedListItem<String>> cell = (ListCell<SectionedListItem<String>>)node;
+			if (!cell.isVisible() || cell.getIndex() < 0 || cell.getIndex() >= items.size()) {
+				continue;
+			}
+			SectionedListItem<String> item = items.get(cell.getIndex());
+			assertSame(message, item, cell.getItem());
+			String text = item.isHeaderItem() ? listView.getSectionTitle(item.getIndexPath()) : item.getRawItem();
+			assertEquals(message, text, ((Labeled)cell.getGraphic()).getText());
+		}
+	}
+
+	private static int countNodes(Node node) {
+		int count = 1;
+		if (node instanceof Parent) {
+			for (Node child : ((Parent)node).getChildrenUnmodifiable()) {
+				count += countNodes(child);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The section in the reference model.
+	 */
+	private static class ReferenceSection {
+
+		private String title;
+		private boolean header;
+		private final List<String> rows = new ArrayList<>();
+	}
+
+	/**
+	 * The reference model is also the data source of the list view. Each row
+	 * has a unique raw item, so that a removed or replaced row is never
+	 * displayed again.
+	 */
+	private static class ReferenceDataSource implements ReorderableSectionedListViewDataSource<String> {
+
+		private final List<ReferenceSection> sections = new ArrayList<>();
+		private final SectionedListViewDataSourceSupport support = new SectionedListViewDataSourceSupport();
+		private int nextId;
+
+		private String newItem() {
+			return "Row " + nextId++;
+		}
+
+		private ReferenceSection newSection(int rows) {
+			ReferenceSection section = new ReferenceSection();
+			section.title = "Section " + nextId++;
+			section.header = nextId % 4 != 0;
+			for (int row = 0; row < rows; row++) {
+				section.rows.add(newItem());
+			}
+			return section;
+		}
+
+		private int numberOfRows() {
+			return sections.stream().mapToInt(section -> section.rows.size()).sum();
+		}
+
+		@Override
+		public int numberOfSections() {
+			return sections.size();
+		}
+
+		@Override
+		public boolean hasSectionHeader(int section) {
+			return sections.get(section).header;
+		}
+
+		@Override
+		public String getSectionTitle(int section) {
+			return sections.get(section).title;
+		}
+
+		@Override
+		public int numberOfRowsInSection(int section) {
+			return sections.get(section).rows.size();
+		}
+
+		@Override
+		public String getItem(IndexPath path) {
+			return sections.get(path.getSection()).rows.get(path.getRow());
+		}
+
+		@Override
+		public void moveRow(IndexPath from, IndexPath to) {
+			String item = sections.get(from.getSection()).rows.remove(from.getRow());
+			sections.get(to.getSection()).rows.add(to.getRow(), item);
+		}
+
+		@Override
+		public void addDataSourceListener(SectionedListViewDataSourceListener listener) {
+			support.addDataSourceListener(listener);
+		}
+
+		@Override
+		public void removeDataSourceListener(SectionedListViewDataSourceListener listener) {
+			support.removeDataSourceListener(listener);
+		}
+	}
+}